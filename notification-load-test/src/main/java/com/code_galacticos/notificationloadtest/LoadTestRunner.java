@@ -0,0 +1,93 @@
+package com.code_galacticos.notificationloadtest;
+
+import com.code_galacticos.notificationloadtest.generator.LoadGenerator;
+import com.code_galacticos.notificationloadtest.report.LoadReport;
+import com.code_galacticos.notificationloadtest.smtp.FakeSmtpServer;
+import com.code_galacticos.notificationloadtest.smtp.SmtpSinkSettings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Starts the SMTP sink and, unless running in sink-only mode, steps through the configured publish
+ * rates. Each step publishes for a fixed duration, waits for the notification-service to drain the
+ * queue and prints throughput, latency percentiles and loss.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestRunner implements ApplicationRunner {
+    private final LoadGenerator loadGenerator;
+
+    @Value("${loadtest.smtp-only:false}")
+    private boolean smtpOnly;
+
+    @Value("${loadtest.rates:10,50,100}")
+    private List<Double> rates;
+
+    @Value("${loadtest.duration-seconds:30}")
+    private long durationSeconds;
+
+    @Value("${loadtest.drain-timeout-seconds:60}")
+    private long drainTimeoutSeconds;
+
+    @Value("${loadtest.smtp.port:2525}")
+    private int smtpPort;
+
+    @Value("${loadtest.smtp.latency-ms:0}")
+    private long smtpLatencyMillis;
+
+    @Value("${loadtest.smtp.jitter-ms:0}")
+    private long smtpJitterMillis;
+
+    @Value("${loadtest.smtp.failure-rate:0}")
+    private double smtpFailureRate;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        AtomicReference<LoadReport> currentStep = new AtomicReference<>();
+        SmtpSinkSettings settings = SmtpSinkSettings.builder()
+                .port(smtpPort)
+                .latencyMillis(smtpLatencyMillis)
+                .jitterMillis(smtpJitterMillis)
+                .failureRate(smtpFailureRate)
+                .build();
+        try (FakeSmtpServer smtpServer = new FakeSmtpServer(settings, subject -> {
+            LoadReport report = currentStep.get();
+            if (report != null) {
+                report.onDelivered(subject);
+            }
+        })) {
+            if (smtpOnly) {
+                log.info("Running as SMTP sink only, stop with Ctrl+C");
+                new CountDownLatch(1).await();
+            }
+            String runId = UUID.randomUUID().toString().substring(0, 8);
+            for (double rate : rates) {
+                LoadReport report = new LoadReport(runId + "-" + (long) rate, rate);
+                currentStep.set(report);
+                log.info("Publishing {} msg/s for {}s", rate, durationSeconds);
+                loadGenerator.publish(report, rate, durationSeconds);
+                awaitDrain(report);
+                log.info("Result: {}", report.summary());
+            }
+            log.info("SMTP sink totals: accepted={} rejected={}", smtpServer.accepted(), smtpServer.rejected());
+        }
+    }
+
+    private void awaitDrain(LoadReport report) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(drainTimeoutSeconds);
+        while (!report.isDrained() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+}
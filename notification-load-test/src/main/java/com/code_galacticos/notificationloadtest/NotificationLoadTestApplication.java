@@ -0,0 +1,14 @@
+package com.code_galacticos.notificationloadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class NotificationLoadTestApplication {
+
+    public static void main(String[] args) {
+        // Exit once the runner is done, the Rabbit connection would otherwise keep the JVM alive
+        System.exit(SpringApplication.exit(SpringApplication.run(NotificationLoadTestApplication.class, args)));
+    }
+
+}
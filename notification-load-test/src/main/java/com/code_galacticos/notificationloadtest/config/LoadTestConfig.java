@@ -0,0 +1,82 @@
+package com.code_galacticos.notificationloadtest.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mirrors the notification topology of the services, so messages published before the
+ * notification-service has started are queued instead of dropped.
+ */
+@Configuration
+public class LoadTestConfig {
+    public static final String QUEUE_NAME = "email_notification_queue";
+    public static final String EXCHANGE_NAME = "email_notification_exchange";
+    public static final String ROUTING_KEY = "email_notification_routing_key";
+    public static final String SHARDED_EXCHANGE_NAME = "email_notification_sharded_exchange";
+    public static final String SHARD_QUEUE_PREFIX = QUEUE_NAME + ".shard-";
+
+    @Value("${notification.sharding.enabled:false}")
+    private boolean shardingEnabled;
+
+    @Value("${notification.sharding.shard-count:8}")
+    private int shardCount;
+
+    @Bean
+    public Queue emailQueue() {
+        return new Queue(QUEUE_NAME);
+    }
+
+    @Bean
+    public TopicExchange emailExchange() {
+        return new TopicExchange(EXCHANGE_NAME);
+    }
+
+    @Bean
+    public Binding binding() {
+        return BindingBuilder
+                .bind(emailQueue())
+                .to(emailExchange())
+                .with(ROUTING_KEY);
+    }
+
+    /**
+     * The consistent-hash exchange and its shard queues, declared like the services do when sharding is enabled.
+     */
+    @Bean
+    public Declarables shardedEmailTopology() {
+        if (!shardingEnabled) {
+            return new Declarables();
+        }
+        CustomExchange exchange = new CustomExchange(SHARDED_EXCHANGE_NAME, "x-consistent-hash", true, false);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Queue queue = QueueBuilder.durable(SHARD_QUEUE_PREFIX + shard)
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            // For x-consistent-hash the binding key is the weight of the queue on the hash ring
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with("1").noargs());
+        }
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    public MessageConverter messageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+}
@@ -0,0 +1,16 @@
+package com.code_galacticos.notificationloadtest.generator;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailNotificationMessage {
+    private String to;
+    private String subject;
+    private String text;
+}
@@ -0,0 +1,92 @@
+package com.code_galacticos.notificationloadtest.generator;
+
+import com.code_galacticos.notificationloadtest.config.LoadTestConfig;
+import com.code_galacticos.notificationloadtest.report.LoadReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes {@link EmailNotificationMessage}s at a fixed rate the same way the task-service does,
+ * so the notification-service cannot tell load-test traffic from real traffic.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoadGenerator {
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${loadtest.recipients:100}")
+    private int recipients;
+
+    @Value("${notification.sharding.enabled:false}")
+    private boolean shardingEnabled;
+
+    /**
+     * Publishes for the given duration and returns once the last message has been handed to the broker.
+     *
+     * @throws IllegalStateException if publishing stopped before the last message
+     */
+    public void publish(LoadReport report, double messagesPerSecond, long durationSeconds) throws InterruptedException {
+        long periodNanos = (long) (1_000_000_000L / messagesPerSecond);
+        long total = (long) (messagesPerSecond * durationSeconds);
+        AtomicLong sequence = new AtomicLong();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("load-generator").factory());
+        try {
+            report.startPublishing();
+            ScheduledFuture<?> publishing = scheduler.scheduleAtFixedRate(() -> {
+                long next = sequence.getAndIncrement();
+                if (next < total) {
+                    publishOne(report, next);
+                }
+            }, 0, periodNanos, TimeUnit.NANOSECONDS);
+            while (sequence.get() < total && !publishing.isDone()) {
+                Thread.sleep(10);
+            }
+            if (publishing.isDone()) {
+                try {
+                    publishing.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Publishing stopped at message " + sequence.get(), e.getCause());
+                }
+            }
+            publishing.cancel(false);
+            report.finishPublishing();
+        } finally {
+            scheduler.shutdown();
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void publishOne(LoadReport report, long sequence) {
+        String to = "user" + (sequence % recipients) + "@loadtest.local";
+        EmailNotificationMessage message = EmailNotificationMessage.builder()
+                .to(to)
+                .subject(report.subjectFor(sequence))
+                .text("Load test message " + sequence)
+                .build();
+        long publishedAt = System.nanoTime();
+        report.onPublished(sequence, publishedAt);
+        try {
+            if (shardingEnabled) {
+                rabbitTemplate.convertAndSend(LoadTestConfig.SHARDED_EXCHANGE_NAME, to, message);
+            } else {
+                rabbitTemplate.convertAndSend(LoadTestConfig.EXCHANGE_NAME, LoadTestConfig.ROUTING_KEY, message);
+            }
+        } catch (RuntimeException e) {
+            // Any exception escaping the task would cancel the fixed-rate schedule
+            report.onPublishFailed(sequence);
+            log.warn("Failed to publish load-test message {}: {}", sequence, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.code_galacticos.notificationloadtest.report;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end bookkeeping for one load step. Every published message is registered under its
+ * sequence number, and its latency is recorded when the SMTP sink accepts it.
+ */
+public class LoadReport {
+
+    private final String runId;
+    private final double targetRate;
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong publishFailures = new AtomicLong();
+    private final AtomicLong unexpected = new AtomicLong();
+    private long[] latenciesNanos = new long[1024];
+    private int latencyCount;
+    private long publishStartNanos;
+    private long publishEndNanos;
+
+    public LoadReport(String runId, double targetRate) {
+        this.runId = runId;
+        this.targetRate = targetRate;
+    }
+
+    /**
+     * Subject carrying the run id and sequence number, parsed back by {@link #onDelivered(String)}.
+     */
+    public String subjectFor(long sequence) {
+        return "loadtest " + runId + " " + sequence;
+    }
+
+    public void startPublishing() {
+        publishStartNanos = System.nanoTime();
+    }
+
+    public void finishPublishing() {
+        publishEndNanos = System.nanoTime();
+    }
+
+    public void onPublished(long sequence, long publishedAtNanos) {
+        inFlight.put(sequence, publishedAtNanos);
+        published.incrementAndGet();
+    }
+
+    public void onPublishFailed(long sequence) {
+        if (inFlight.remove(sequence) != null) {
+            published.decrementAndGet();
+        }
+        publishFailures.incrementAndGet();
+    }
+
+    /**
+     * Called by the SMTP sink for every accepted message. Messages from other runs or duplicate
+     * deliveries are counted as unexpected instead of being timed.
+     */
+    public void onDelivered(String subject) {
+        long deliveredAt = System.nanoTime();
+        Long publishedAt = parseSequence(subject) instanceof Long sequence ? inFlight.remove(sequence) : null;
+        if (publishedAt == null) {
+            unexpected.incrementAndGet();
+            return;
+        }
+        recordLatency(deliveredAt - publishedAt);
+    }
+
+    public boolean isDrained() {
+        return inFlight.isEmpty();
+    }
+
+    public synchronized String summary() {
+        long[] sorted = Arrays.copyOf(latenciesNanos, latencyCount);
+        Arrays.sort(sorted);
+        double publishSeconds = Math.max(publishEndNanos - publishStartNanos, 1) / 1_000_000_000.0;
+        long delivered = latencyCount;
+        long lost = inFlight.size();
+        return String.format(
+                "target=%.0f/s published=%d (%.1f/s) publish-failures=%d delivered=%d (%.1f/s) lost=%d (%.2f%%) "
+                        + "unexpected=%d p50=%.1fms p99=%.1fms max=%.1fms",
+                targetRate,
+                published.get(), published.get() / publishSeconds,
+                publishFailures.get(),
+                delivered, delivered / publishSeconds,
+                lost, published.get() == 0 ? 0.0 : lost * 100.0 / published.get(),
+                unexpected.get(),
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        if (latencyCount == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, latenciesNanos.length * 2);
+        }
+        latenciesNanos[latencyCount++] = nanos;
+    }
+
+    private Long parseSequence(String subject) {
+        String prefix = "loadtest " + runId + " ";
+        if (subject == null || !subject.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(subject.substring(prefix.length()).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
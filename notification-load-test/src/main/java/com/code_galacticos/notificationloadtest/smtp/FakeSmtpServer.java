@@ -0,0 +1,133 @@
+package com.code_galacticos.notificationloadtest.smtp;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-process SMTP sink. Accepts every session without authentication, answers the end of DATA after
+ * the configured latency and rejects a configurable share of messages with a transient 451 error.
+ * Sessions are served by platform threads so the sink itself never competes with the client for carriers.
+ */
+@Slf4j
+public class FakeSmtpServer implements AutoCloseable {
+
+    private static final String SUBJECT_HEADER = "subject:";
+
+    private final ServerSocket serverSocket;
+    private final SmtpSinkSettings settings;
+    private final Consumer<String> onAccepted;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param onAccepted called with the Subject header of every message that was accepted
+     */
+    public FakeSmtpServer(SmtpSinkSettings settings, Consumer<String> onAccepted) throws IOException {
+        this.settings = settings;
+        this.onAccepted = onAccepted;
+        this.serverSocket = new ServerSocket(settings.getPort());
+        Thread.ofPlatform().name("fake-smtp-acceptor").daemon().start(this::acceptLoop);
+        log.info("Fake SMTP server listening on port {} (latency={}ms, jitter={}ms, failure-rate={})",
+                port(), settings.getLatencyMillis(), settings.getJitterMillis(), settings.getFailureRate());
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    public long accepted() {
+        return accepted.get();
+    }
+
+    public long rejected() {
+        return rejected.get();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofPlatform().name("fake-smtp-session").daemon().start(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            reply(out, "220 fake-smtp ready");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase(Locale.ROOT) : line.toUpperCase(Locale.ROOT);
+                switch (command) {
+                    case "DATA" -> {
+                        reply(out, "354 end data with <CR><LF>.<CR><LF>");
+                        String subject = readMessage(in);
+                        Thread.sleep(latency());
+                        if (ThreadLocalRandom.current().nextDouble() < settings.getFailureRate()) {
+                            rejected.incrementAndGet();
+                            reply(out, "451 4.3.0 injected failure");
+                        } else {
+                            accepted.incrementAndGet();
+                            onAccepted.accept(subject);
+                            reply(out, "250 OK");
+                        }
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 bye");
+                        return;
+                    }
+                    default -> reply(out, "250 OK");
+                }
+            }
+        } catch (IOException | InterruptedException ignored) {
+            // connection closed by client or server shutting down
+        }
+    }
+
+    /**
+     * Reads the message up to the terminating dot and returns its Subject header.
+     */
+    private static String readMessage(BufferedReader in) throws IOException {
+        String subject = "";
+        boolean inHeaders = true;
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            if (line.isEmpty()) {
+                inHeaders = false;
+            } else if (inHeaders && line.regionMatches(true, 0, SUBJECT_HEADER, 0, SUBJECT_HEADER.length())) {
+                subject = line.substring(SUBJECT_HEADER.length()).trim();
+            }
+        }
+        return subject;
+    }
+
+    private long latency() {
+        long jitter = settings.getJitterMillis() > 0 ? ThreadLocalRandom.current().nextLong(settings.getJitterMillis() + 1) : 0;
+        return settings.getLatencyMillis() + jitter;
+    }
+
+    private static void reply(PrintWriter out, String line) {
+        out.print(line + "\r\n");
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+}
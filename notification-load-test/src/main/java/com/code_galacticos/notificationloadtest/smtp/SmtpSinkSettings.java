@@ -0,0 +1,29 @@
+package com.code_galacticos.notificationloadtest.smtp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmtpSinkSettings {
+    /**
+     * Port to listen on, 0 picks a free port.
+     */
+    private int port;
+    /**
+     * Delay before the end of DATA is acknowledged, simulating the provider's processing time.
+     */
+    private long latencyMillis;
+    /**
+     * Uniform random delay of up to this many milliseconds added to the latency.
+     */
+    private long jitterMillis;
+    /**
+     * Share of messages, between 0 and 1, rejected with a transient 451 reply.
+     */
+    private double failureRate;
+}
@@ -0,0 +1,59 @@
+package com.code_galacticos.notificationloadtest.smtp;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FakeSmtpServerTest {
+
+    @Test
+    void acceptsMessagesAfterConfiguredLatency() throws Exception {
+        List<String> subjects = new CopyOnWriteArrayList<>();
+        SmtpSinkSettings settings = SmtpSinkSettings.builder().latencyMillis(100).build();
+        try (FakeSmtpServer server = new FakeSmtpServer(settings, subjects::add)) {
+            long start = System.nanoTime();
+            mailSender(server).send(message("loadtest run 1"));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(List.of("loadtest run 1"), subjects);
+            assertEquals(1, server.accepted());
+            assertTrue(elapsedMillis >= 100, "send returned after " + elapsedMillis + "ms");
+        }
+    }
+
+    @Test
+    void rejectsMessagesWhenFailureIsInjected() throws Exception {
+        List<String> subjects = new CopyOnWriteArrayList<>();
+        SmtpSinkSettings settings = SmtpSinkSettings.builder().failureRate(1.0).build();
+        try (FakeSmtpServer server = new FakeSmtpServer(settings, subjects::add)) {
+            assertThrows(MailSendException.class, () -> mailSender(server).send(message("loadtest run 2")));
+
+            assertTrue(subjects.isEmpty());
+            assertEquals(1, server.rejected());
+        }
+    }
+
+    private static JavaMailSenderImpl mailSender(FakeSmtpServer server) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(server.port());
+        return mailSender;
+    }
+
+    private static SimpleMailMessage message(String subject) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("loadtest@example.com");
+        message.setTo("user@example.com");
+        message.setSubject(subject);
+        message.setText("body");
+        return message;
+    }
+}
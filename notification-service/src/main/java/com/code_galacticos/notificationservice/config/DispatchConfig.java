@@ -0,0 +1,21 @@
+package com.code_galacticos.notificationservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class DispatchConfig {
+
+    /**
+     * Executor for the RabbitMQ connection and listener containers, so a listener blocked on SMTP
+     * parks a virtual thread instead of holding a platform thread. The Rabbit client requires an
+     * {@link ExecutorService} here.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService rabbitListenerExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("rabbit-listener-", 0).factory());
+    }
+}
@@ -1,10 +1,18 @@
 package com.code_galacticos.notificationservice.controller;
 
 import com.code_galacticos.notificationservice.model.dto.EmailRequest;
+import com.code_galacticos.notificationservice.model.dto.EmailTrackingResponse;
+import com.code_galacticos.notificationservice.service.EmailDispatchService;
 import com.code_galacticos.notificationservice.service.EmailService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/notifications")
@@ -12,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class EmailController {
 
     private final EmailService emailService;
+    private final EmailDispatchService emailDispatchService;
 
     @GetMapping
     public ResponseEntity<String> sayHi() {
@@ -27,4 +36,27 @@ public class EmailController {
         );
         return ResponseEntity.ok("Email sent successfully");
     }
+
+    @PostMapping("/email/async")
+    public ResponseEntity<EmailTrackingResponse> sendEmailAsync(@RequestBody EmailRequest request) {
+        EmailTrackingResponse tracking = emailDispatchService.enqueue(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/notifications/email/{trackingId}")
+                .buildAndExpand(tracking.getTrackingId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(tracking);
+    }
+
+    @PostMapping("/email/batch")
+    public ResponseEntity<List<EmailTrackingResponse>> sendEmailBatch(@RequestBody List<EmailRequest> requests) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(emailDispatchService.enqueueAll(requests));
+    }
+
+    @GetMapping("/email/{trackingId}")
+    public ResponseEntity<EmailTrackingResponse> getEmailStatus(@PathVariable UUID trackingId) {
+        return emailDispatchService.getStatus(trackingId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
@@ -0,0 +1,73 @@
+package com.code_galacticos.notificationservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for the notification-service half of the email notification pipeline.
+ * The task-service starts the pipeline under the same {@code workhub.email} prefix.
+ */
+@Component
+public class NotificationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer brokerDwell;
+
+    public NotificationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.brokerDwell = Timer.builder("workhub.email.broker.dwell")
+                .description("Time an email notification spent in RabbitMQ between publish and delivery")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the time since the publisher stamped the message. Messages without a stamp,
+     * or with a stamp from a skewed clock, are ignored.
+     */
+    public void recordBrokerDwell(Long publishedAtMillis) {
+        if (publishedAtMillis == null) {
+            return;
+        }
+        long dwellMillis = System.currentTimeMillis() - publishedAtMillis;
+        if (dwellMillis >= 0) {
+            brokerDwell.record(Duration.ofMillis(dwellMillis));
+        }
+    }
+
+    /**
+     * Times the handling of one received notification, including the SMTP send.
+     */
+    public void recordProcessing(Runnable processing) {
+        record(processing, "workhub.email.receive.processing",
+                "Time to process an email notification received from RabbitMQ", Tags.empty());
+    }
+
+    /**
+     * Times one SMTP send to the given provider.
+     */
+    public void recordSmtpSend(String provider, Runnable send) {
+        record(send, "workhub.email.smtp.send",
+                "Time to deliver an email to the SMTP server", Tags.of("provider", provider));
+    }
+
+    private void record(Runnable action, String name, String description, Tags tags) {
+        long start = System.nanoTime();
+        String outcome = "failure";
+        try {
+            action.run();
+            outcome = "success";
+        } finally {
+            Timer.builder(name)
+                    .description(description)
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.code_galacticos.notificationservice.model.dto;
+
+import com.code_galacticos.notificationservice.model.enums.EmailDeliveryStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder(toBuilder = true)
+public class EmailTrackingResponse {
+    private UUID trackingId;
+    private String to;
+    private EmailDeliveryStatus status;
+    private String error;
+    private Instant acceptedAt;
+    private Instant updatedAt;
+}
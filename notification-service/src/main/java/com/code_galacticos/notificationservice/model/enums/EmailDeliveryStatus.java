@@ -0,0 +1,5 @@
+package com.code_galacticos.notificationservice.model.enums;
+
+public enum EmailDeliveryStatus {
+    QUEUED, SENDING, SENT, FAILED
+}
@@ -2,9 +2,17 @@ package com.code_galacticos.notificationservice.rabbit;
 
 import lombok.Data;
 
+import java.util.UUID;
+
 @Data
 public class EmailNotificationMessage {
     private String to;
     private String subject;
     private String text;
+
+    /**
+     * Set for emails accepted by the asynchronous endpoints, whose status is tracked. Null for
+     * notifications published by the task-service.
+     */
+    private UUID trackingId;
 }
@@ -1,11 +1,15 @@
 package com.code_galacticos.notificationservice.rabbit;
 
+import com.code_galacticos.notificationservice.metrics.NotificationMetrics;
+import com.code_galacticos.notificationservice.model.enums.EmailDeliveryStatus;
+import com.code_galacticos.notificationservice.service.EmailDispatchService;
 import com.code_galacticos.notificationservice.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,22 +17,29 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class EmailNotificationReceiver {
     private final EmailService emailService;
+    private final NotificationMetrics notificationMetrics;
+    private final EmailDispatchService emailDispatchService;
 
-    @RabbitListener(queues = RabbitMQConfig.QUEUE_NAME)
-    public void receiveEmailNotification(EmailNotificationMessage message) {
+    @RabbitListener(queues = "#{@emailListenerQueues}", containerFactory = "emailListenerContainerFactory")
+    public void receiveEmailNotification(EmailNotificationMessage message,
+                                         @Header(name = RabbitMQConfig.PUBLISHED_AT_HEADER, required = false) Long publishedAt) {
+        notificationMetrics.recordBrokerDwell(publishedAt);
         log.info("Received email notification message from RabbitMQ: to={}, subject='{}'",
                 message.getTo(),
                 message.getSubject());
 
+        emailDispatchService.updateStatus(message.getTrackingId(), EmailDeliveryStatus.SENDING, null);
         try {
-            emailService.sendEmail(
+            notificationMetrics.recordProcessing(() -> emailService.sendEmail(
                     message.getTo(),
                     message.getSubject(),
                     message.getText()
-            );
+            ));
             log.info("Successfully sent email to: {}", message.getTo());
+            emailDispatchService.updateStatus(message.getTrackingId(), EmailDeliveryStatus.SENT, null);
         } catch (Exception e) {
             log.error("Failed to process email notification: {}", e.getMessage(), e);
+            emailDispatchService.updateStatus(message.getTrackingId(), EmailDeliveryStatus.FAILED, e.getMessage());
         }
     }
 
@@ -1,28 +1,69 @@
 package com.code_galacticos.notificationservice.rabbit;
 
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+
 @Configuration
 public class RabbitMQConfig {
     public static final String QUEUE_NAME = "email_notification_queue";
     public static final String EXCHANGE_NAME = "email_notification_exchange";
     public static final String ROUTING_KEY = "email_notification_routing_key";
 
+    /**
+     * Consistent-hash exchange used when sharding is enabled. The task-service routes
+     * by recipient address, so all mail for one recipient lands on the same shard queue.
+     */
+    public static final String SHARDED_EXCHANGE_NAME = "email_notification_sharded_exchange";
+    public static final String SHARD_QUEUE_PREFIX = QUEUE_NAME + ".shard-";
+
+    /**
+     * Epoch millis at which the task-service published the message, used to measure broker dwell time.
+     */
+    public static final String PUBLISHED_AT_HEADER = "x-published-at";
+
+    @Value("${spring.rabbitmq.host:rabbitmq}")
+    private String rabbitHost;
+
+    @Value("${notification.sharding.enabled:false}")
+    private boolean shardingEnabled;
+
+    @Value("${notification.sharding.shard-count:8}")
+    private int shardCount;
+
+    @Value("${notification.sharding.replica-index:0}")
+    private int replicaIndex;
+
+    @Value("${notification.sharding.replica-count:1}")
+    private int replicaCount;
+
+    @Value("${notification.listener.consumers-per-queue:1}")
+    private int consumersPerQueue;
+
     @Bean
-    public ConnectionFactory connectionFactory() {
+    public ConnectionFactory connectionFactory(
+            @Qualifier("rabbitListenerExecutor") ExecutorService rabbitListenerExecutor) {
         CachingConnectionFactory connectionFactory = new CachingConnectionFactory();
-        connectionFactory.setHost("rabbitmq");
+        connectionFactory.setHost(rabbitHost);
         connectionFactory.setPort(5672);
         connectionFactory.setUsername("guest");
         connectionFactory.setPassword("guest");
+        // Deliveries of the direct listener container run on the connection's consumer threads
+        connectionFactory.setExecutor(rabbitListenerExecutor);
         return connectionFactory;
     }
 
@@ -44,6 +85,69 @@ public class RabbitMQConfig {
                 .with(ROUTING_KEY);
     }
 
+    /**
+     * Declares the consistent-hash exchange and its shard queues. Must stay in sync with the
+     * task-service declaration, both sides declare the same topology.
+     */
+    @Bean
+    public Declarables shardedEmailTopology() {
+        if (!shardingEnabled) {
+            return new Declarables();
+        }
+        CustomExchange exchange = new CustomExchange(SHARDED_EXCHANGE_NAME, "x-consistent-hash", true, false);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Queue queue = QueueBuilder.durable(shardQueueName(shard))
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            // For x-consistent-hash the binding key is the weight of the queue on the hash ring
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with("1").noargs());
+        }
+        return new Declarables(declarables);
+    }
+
+    /**
+     * Queues this replica consumes from. Without sharding it is the single email queue,
+     * with sharding it is every shard whose index maps to this replica.
+     */
+    @Bean
+    public String[] emailListenerQueues() {
+        if (!shardingEnabled) {
+            return new String[]{QUEUE_NAME};
+        }
+        if (replicaCount < 1 || replicaIndex < 0 || replicaIndex >= replicaCount) {
+            throw new IllegalStateException("Invalid shard assignment: replica-index=" + replicaIndex
+                    + ", replica-count=" + replicaCount);
+        }
+        List<String> claimed = new ArrayList<>();
+        for (int shard = replicaIndex; shard < shardCount; shard += replicaCount) {
+            claimed.add(shardQueueName(shard));
+        }
+        return claimed.toArray(new String[0]);
+    }
+
+    /**
+     * With sharding, one consumer per queue keeps deliveries of a shard in order while the
+     * claimed shards are consumed in parallel. Without sharding the single queue has one consumer
+     * as well unless {@code notification.listener.consumers-per-queue} is raised, which trades
+     * delivery order for throughput.
+     */
+    @Bean
+    public DirectRabbitListenerContainerFactory emailListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Qualifier("rabbitListenerExecutor") ExecutorService rabbitListenerExecutor) {
+        DirectRabbitListenerContainerFactory factory = new DirectRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setTaskExecutor(rabbitListenerExecutor);
+        factory.setConsumersPerQueue(shardingEnabled ? 1 : consumersPerQueue);
+        // Continues the trace started by the task-service from the propagated AMQP headers
+        factory.setObservationEnabled(true);
+        return factory;
+    }
+
     @Bean
     public MessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -53,6 +157,19 @@ public class RabbitMQConfig {
     public AmqpTemplate amqpTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter());
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
-}
\ No newline at end of file
+
+    public static String shardQueueName(int shard) {
+        return SHARD_QUEUE_PREFIX + shard;
+    }
+
+    /**
+     * Hash key for the consistent-hash exchange, the same as the task-service uses. Addresses are
+     * case-insensitive, so they are normalized to keep one mailbox on one shard.
+     */
+    public static String shardKey(String recipient) {
+        return recipient == null ? "" : recipient.trim().toLowerCase(Locale.ROOT);
+    }
+}
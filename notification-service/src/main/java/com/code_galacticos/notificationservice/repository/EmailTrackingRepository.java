@@ -0,0 +1,75 @@
+package com.code_galacticos.notificationservice.repository;
+
+import com.code_galacticos.notificationservice.model.dto.EmailTrackingResponse;
+import com.code_galacticos.notificationservice.model.enums.EmailDeliveryStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Delivery status of emails accepted by the asynchronous endpoints. Kept in the database rather
+ * than in memory, so the status survives restarts and can be looked up on any replica.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmailTrackingRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO notification.email_tracking (tracking_uuid, recipient, status, accepted_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE notification.email_tracking SET status = ?, error = ?, updated_at = CURRENT_TIMESTAMP
+            WHERE tracking_uuid = ?
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT tracking_uuid, recipient, status, error, accepted_at, updated_at
+            FROM notification.email_tracking
+            WHERE tracking_uuid = ?
+            """;
+
+    private static final String DELETE_ACCEPTED_BEFORE_SQL = """
+            DELETE FROM notification.email_tracking WHERE accepted_at < ?
+            """;
+
+    private static final RowMapper<EmailTrackingResponse> ROW_MAPPER = (rs, rowNum) -> EmailTrackingResponse.builder()
+            .trackingId(rs.getObject("tracking_uuid", UUID.class))
+            .to(rs.getString("recipient"))
+            .status(EmailDeliveryStatus.valueOf(rs.getString("status")))
+            .error(rs.getString("error"))
+            .acceptedAt(rs.getTimestamp("accepted_at").toInstant())
+            .updatedAt(rs.getTimestamp("updated_at").toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<EmailTrackingResponse> queued) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, queued, queued.size(), (ps, tracking) -> {
+            ps.setObject(1, tracking.getTrackingId());
+            ps.setString(2, tracking.getTo());
+            ps.setString(3, tracking.getStatus().name());
+            ps.setTimestamp(4, Timestamp.from(tracking.getAcceptedAt()));
+            ps.setTimestamp(5, Timestamp.from(tracking.getUpdatedAt()));
+        });
+    }
+
+    public void updateStatus(UUID trackingId, EmailDeliveryStatus status, String error) {
+        jdbcTemplate.update(UPDATE_STATUS_SQL, status.name(), error, trackingId);
+    }
+
+    public Optional<EmailTrackingResponse> findById(UUID trackingId) {
+        return jdbcTemplate.query(FIND_SQL, ROW_MAPPER, trackingId).stream().findFirst();
+    }
+
+    public int deleteAcceptedBefore(Instant cutoff) {
+        return jdbcTemplate.update(DELETE_ACCEPTED_BEFORE_SQL, Timestamp.from(cutoff));
+    }
+}
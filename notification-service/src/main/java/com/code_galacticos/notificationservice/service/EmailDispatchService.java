@@ -0,0 +1,168 @@
+package com.code_galacticos.notificationservice.service;
+
+import com.code_galacticos.notificationservice.model.dto.EmailRequest;
+import com.code_galacticos.notificationservice.model.dto.EmailTrackingResponse;
+import com.code_galacticos.notificationservice.model.enums.EmailDeliveryStatus;
+import com.code_galacticos.notificationservice.rabbit.EmailNotificationMessage;
+import com.code_galacticos.notificationservice.rabbit.RabbitMQConfig;
+import com.code_galacticos.notificationservice.repository.EmailTrackingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Accepts emails for background delivery so HTTP threads are not held while talking to SMTP.
+ * Accepted emails are published to the email queue and delivered by EmailNotificationReceiver on
+ * whichever replica consumes them, so they survive a restart. Every accepted email gets a tracking
+ * id whose status is kept in the database, readable from any replica until the retention expires.
+ */
+@Service
+@Slf4j
+public class EmailDispatchService {
+    private static final MessagePostProcessor STAMP_PUBLISHED_AT = amqpMessage -> {
+        amqpMessage.getMessageProperties().setHeader(RabbitMQConfig.PUBLISHED_AT_HEADER, System.currentTimeMillis());
+        return amqpMessage;
+    };
+
+    private final AmqpTemplate amqpTemplate;
+    private final EmailTrackingRepository emailTrackingRepository;
+    private final boolean shardingEnabled;
+    private final int maxBatchSize;
+    private final Duration trackingRetention;
+
+    public EmailDispatchService(@Qualifier("amqpTemplate") AmqpTemplate amqpTemplate,
+                                EmailTrackingRepository emailTrackingRepository,
+                                @Value("${notification.sharding.enabled:false}") boolean shardingEnabled,
+                                @Value("${notification.dispatch.max-batch-size:500}") int maxBatchSize,
+                                @Value("${notification.dispatch.tracking-retention:7d}") Duration trackingRetention) {
+        this.amqpTemplate = amqpTemplate;
+        this.emailTrackingRepository = emailTrackingRepository;
+        this.shardingEnabled = shardingEnabled;
+        this.maxBatchSize = maxBatchSize;
+        this.trackingRetention = trackingRetention;
+    }
+
+    /**
+     * Queues a single email for delivery.
+     *
+     * @throws ResponseStatusException 503 if the broker does not accept the email
+     */
+    public EmailTrackingResponse enqueue(EmailRequest request) {
+        return publishAll(List.of(request)).getFirst();
+    }
+
+    /**
+     * Queues a batch of emails. The batch is rejected as a whole if the broker accepts none of
+     * them; emails left over when the broker fails in the middle of a batch are returned as FAILED.
+     *
+     * @throws ResponseStatusException 400 if the batch is empty or too large, 503 if the broker does not accept the batch
+     */
+    public List<EmailTrackingResponse> enqueueAll(List<EmailRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch must contain at least one email");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Batch size " + requests.size() + " exceeds the limit of " + maxBatchSize);
+        }
+        return publishAll(requests);
+    }
+
+    public Optional<EmailTrackingResponse> getStatus(UUID trackingId) {
+        return emailTrackingRepository.findById(trackingId);
+    }
+
+    /**
+     * Records the progress of a tracked email, does nothing for untracked ones. A failed update is
+     * only logged, it must not stop the delivery.
+     */
+    public void updateStatus(UUID trackingId, EmailDeliveryStatus status, String error) {
+        if (trackingId == null) {
+            return;
+        }
+        try {
+            emailTrackingRepository.updateStatus(trackingId, status, error);
+        } catch (DataAccessException e) {
+            log.warn("Failed to record status {} of email {}: {}", status, trackingId, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.dispatch.tracking-cleanup-interval-ms:3600000}")
+    public void deleteExpiredTracking() {
+        int deleted = emailTrackingRepository.deleteAcceptedBefore(Instant.now().minus(trackingRetention));
+        if (deleted > 0) {
+            log.info("Deleted {} expired email tracking entries", deleted);
+        }
+    }
+
+    /**
+     * Records the emails as queued before publishing them, so the receiver always finds the entry
+     * it updates.
+     */
+    private List<EmailTrackingResponse> publishAll(List<EmailRequest> requests) {
+        Instant now = Instant.now();
+        List<EmailTrackingResponse> accepted = new ArrayList<>(requests.size());
+        for (EmailRequest request : requests) {
+            accepted.add(EmailTrackingResponse.builder()
+                    .trackingId(UUID.randomUUID())
+                    .to(request.getTo())
+                    .status(EmailDeliveryStatus.QUEUED)
+                    .acceptedAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        emailTrackingRepository.insertAll(accepted);
+
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                publish(requests.get(i), accepted.get(i).getTrackingId());
+            } catch (AmqpException e) {
+                log.error("Failed to queue {} of {} emails: {}", requests.size() - i, requests.size(), e.getMessage(), e);
+                for (int j = i; j < accepted.size(); j++) {
+                    updateStatus(accepted.get(j).getTrackingId(), EmailDeliveryStatus.FAILED, "Broker unavailable");
+                    accepted.set(j, accepted.get(j).toBuilder()
+                            .status(EmailDeliveryStatus.FAILED)
+                            .error("Broker unavailable")
+                            .updatedAt(Instant.now())
+                            .build());
+                }
+                if (i == 0) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Email queue is unavailable, retry later", e);
+                }
+                break;
+            }
+        }
+        return accepted;
+    }
+
+    private void publish(EmailRequest request, UUID trackingId) {
+        EmailNotificationMessage message = new EmailNotificationMessage();
+        message.setTo(request.getTo());
+        message.setSubject(request.getSubject());
+        message.setText(request.getText());
+        message.setTrackingId(trackingId);
+        if (shardingEnabled) {
+            amqpTemplate.convertAndSend(RabbitMQConfig.SHARDED_EXCHANGE_NAME,
+                    RabbitMQConfig.shardKey(request.getTo()), message, STAMP_PUBLISHED_AT);
+        } else {
+            amqpTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.ROUTING_KEY,
+                    message, STAMP_PUBLISHED_AT);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.code_galacticos.notificationservice.service;
 
+import com.code_galacticos.notificationservice.metrics.NotificationMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,6 +14,8 @@ import org.springframework.stereotype.Service;
 public class EmailService {
 
     private final JavaMailSender emailSender;
+    private final SmtpConcurrencyLimiter smtpConcurrencyLimiter;
+    private final NotificationMetrics notificationMetrics;
 
     @Value("${notification.email.sender}")
     private String sender;
@@ -22,6 +26,16 @@ public class EmailService {
         message.setTo(to);
         message.setSubject(subject);
         message.setText(text);
-        emailSender.send(message);
+        String provider = smtpProvider();
+        // Timed inside the limiter so the SMTP latency excludes the wait for a free session
+        smtpConcurrencyLimiter.run(provider,
+                () -> notificationMetrics.recordSmtpSend(provider, () -> emailSender.send(message)));
+    }
+
+    private String smtpProvider() {
+        if (emailSender instanceof JavaMailSenderImpl mailSender && mailSender.getHost() != null) {
+            return mailSender.getHost();
+        }
+        return "default";
     }
 }
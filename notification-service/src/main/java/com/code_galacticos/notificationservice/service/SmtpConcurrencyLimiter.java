@@ -0,0 +1,101 @@
+package com.code_galacticos.notificationservice.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of concurrent SMTP sessions per provider. With virtual threads there is no
+ * thread pool to bound the load anymore, and providers throttle or reject clients that open
+ * too many connections at once.
+ * <p>
+ * Jakarta Mail performs its socket I/O inside synchronized methods, which pins a virtual thread
+ * to its carrier before JDK 24. When offloading is enabled the send itself runs on a small
+ * per-provider platform pool sized to the cap, and the calling virtual thread just parks on the result.
+ */
+@Component
+public class SmtpConcurrencyLimiter {
+
+    private final int maxConcurrentSends;
+    private final long acquireTimeoutMillis;
+    private final boolean offloadToPlatformThreads;
+    private final ConcurrentMap<String, ProviderLane> lanes = new ConcurrentHashMap<>();
+
+    public SmtpConcurrencyLimiter(@Value("${notification.smtp.max-concurrent-sends:10}") int maxConcurrentSends,
+                                  @Value("${notification.smtp.acquire-timeout-ms:30000}") long acquireTimeoutMillis,
+                                  @Value("${notification.smtp.offload-to-platform-threads:true}") boolean offloadToPlatformThreads) {
+        this.maxConcurrentSends = maxConcurrentSends;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.offloadToPlatformThreads = offloadToPlatformThreads;
+    }
+
+    /**
+     * Runs the send while holding one of the provider's permits.
+     *
+     * @throws MailSendException if no permit becomes available within the acquire timeout
+     */
+    public void run(String provider, Runnable send) {
+        ProviderLane lane = lanes.computeIfAbsent(provider, this::newLane);
+        try {
+            if (!lane.permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("Timed out waiting for a free SMTP session to " + provider);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for a free SMTP session to " + provider, e);
+        }
+        try {
+            if (lane.senders == null) {
+                send.run();
+            } else {
+                awaitSend(provider, lane.senders.submit(send));
+            }
+        } finally {
+            lane.permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().stream()
+                .filter(lane -> lane.senders != null)
+                .forEach(lane -> lane.senders.shutdown());
+    }
+
+    private void awaitSend(String provider, Future<?> result) {
+        try {
+            result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while sending to " + provider, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MailException mailException) {
+                throw mailException;
+            }
+            throw new MailSendException("Failed to send to " + provider, e.getCause());
+        }
+    }
+
+    private ProviderLane newLane(String provider) {
+        ExecutorService senders = offloadToPlatformThreads
+                ? Executors.newFixedThreadPool(maxConcurrentSends,
+                        Thread.ofPlatform().name("smtp-" + provider + "-", 0).daemon().factory())
+                : null;
+        return new ProviderLane(new Semaphore(maxConcurrentSends, true), senders);
+    }
+
+    private record ProviderLane(Semaphore permits, ExecutorService senders) {
+    }
+}
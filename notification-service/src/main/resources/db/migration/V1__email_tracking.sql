@@ -0,0 +1,12 @@
+-- Delivery status of emails accepted by the asynchronous endpoints, read by whichever replica is
+-- asked. Rows older than notification.dispatch.tracking-retention are deleted.
+CREATE TABLE email_tracking (
+    tracking_uuid UUID PRIMARY KEY,
+    recipient TEXT,
+    status VARCHAR(20) NOT NULL,
+    error TEXT,
+    accepted_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_email_tracking_accepted_at ON email_tracking(accepted_at);
@@ -0,0 +1,81 @@
+package com.code_galacticos.notificationservice.service;
+
+import com.code_galacticos.notificationservice.model.dto.EmailRequest;
+import com.code_galacticos.notificationservice.model.dto.EmailTrackingResponse;
+import com.code_galacticos.notificationservice.model.enums.EmailDeliveryStatus;
+import com.code_galacticos.notificationservice.rabbit.EmailNotificationMessage;
+import com.code_galacticos.notificationservice.rabbit.RabbitMQConfig;
+import com.code_galacticos.notificationservice.repository.EmailTrackingRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class EmailDispatchServiceTest {
+    private static final AmqpConnectException BROKER_DOWN = new AmqpConnectException(new ConnectException("refused"));
+
+    private final AmqpTemplate amqpTemplate = mock(AmqpTemplate.class);
+    private final EmailTrackingRepository emailTrackingRepository = mock(EmailTrackingRepository.class);
+    private final EmailDispatchService emailDispatchService =
+            new EmailDispatchService(amqpTemplate, emailTrackingRepository, false, 500, Duration.ofDays(7));
+
+    @Test
+    void enqueuePublishesTrackedEmailToEmailQueue() {
+        EmailTrackingResponse tracking = emailDispatchService.enqueue(request("ann@example.com"));
+
+        assertEquals(EmailDeliveryStatus.QUEUED, tracking.getStatus());
+        verify(emailTrackingRepository).insertAll(List.of(tracking));
+        ArgumentCaptor<EmailNotificationMessage> message = ArgumentCaptor.forClass(EmailNotificationMessage.class);
+        verify(amqpTemplate).convertAndSend(eq(RabbitMQConfig.EXCHANGE_NAME), eq(RabbitMQConfig.ROUTING_KEY),
+                message.capture(), any(MessagePostProcessor.class));
+        assertEquals(tracking.getTrackingId(), message.getValue().getTrackingId());
+        assertEquals("ann@example.com", message.getValue().getTo());
+    }
+
+    @Test
+    void enqueueIsRejectedWhenBrokerIsDown() {
+        doThrow(BROKER_DOWN).when(amqpTemplate)
+                .convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class));
+
+        assertThrows(ResponseStatusException.class, () -> emailDispatchService.enqueue(request("ann@example.com")));
+        verify(emailTrackingRepository).updateStatus(any(), eq(EmailDeliveryStatus.FAILED), eq("Broker unavailable"));
+    }
+
+    @Test
+    void emailsLeftOverWhenBrokerFailsMidBatchAreFailed() {
+        doNothing().doThrow(BROKER_DOWN).when(amqpTemplate)
+                .convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class));
+
+        List<EmailTrackingResponse> accepted = emailDispatchService.enqueueAll(
+                List.of(request("ann@example.com"), request("bob@example.com"), request("cat@example.com")));
+
+        assertEquals(List.of(EmailDeliveryStatus.QUEUED, EmailDeliveryStatus.FAILED, EmailDeliveryStatus.FAILED),
+                accepted.stream().map(EmailTrackingResponse::getStatus).toList());
+        verify(emailTrackingRepository).updateStatus(accepted.get(1).getTrackingId(), EmailDeliveryStatus.FAILED, "Broker unavailable");
+        verify(emailTrackingRepository).updateStatus(accepted.get(2).getTrackingId(), EmailDeliveryStatus.FAILED, "Broker unavailable");
+    }
+
+    private static EmailRequest request(String to) {
+        EmailRequest request = new EmailRequest();
+        request.setTo(to);
+        request.setSubject("Subject");
+        request.setText("Text");
+        return request;
+    }
+}
@@ -0,0 +1,81 @@
+package com.code_galacticos.notificationservice.service;
+
+import com.code_galacticos.notificationloadtest.smtp.FakeSmtpServer;
+import com.code_galacticos.notificationloadtest.smtp.SmtpSinkSettings;
+import com.code_galacticos.notificationservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares SMTP send throughput of a fixed platform thread pool against virtual threads, with and
+ * without offloading the pinned Jakarta Mail I/O to the limiter's platform lane.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=EmailSendThroughputBenchmark}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EmailSendThroughputBenchmark {
+
+    private static final int MESSAGES = 400;
+    private static final int PLATFORM_POOL_SIZE = 16;
+    private static final int SMTP_SESSION_CAP = 64;
+
+    @Test
+    void compareExecutorsAcrossSmtpLatencies() throws Exception {
+        System.out.printf("%-12s %-18s %12s%n", "latency(ms)", "executor", "msgs/sec");
+        for (int latencyMillis : new int[]{0, 50, 200}) {
+            SmtpSinkSettings settings = SmtpSinkSettings.builder().latencyMillis(latencyMillis).build();
+            try (FakeSmtpServer smtpServer = new FakeSmtpServer(settings, subject -> { })) {
+                try (ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)) {
+                    System.out.printf("%-12d %-18s %12.1f%n", latencyMillis, "platform", run(smtpServer, platform, false));
+                }
+                try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+                    System.out.printf("%-12d %-18s %12.1f%n", latencyMillis, "virtual", run(smtpServer, virtual, false));
+                }
+                try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+                    System.out.printf("%-12d %-18s %12.1f%n", latencyMillis, "virtual+offload", run(smtpServer, virtual, true));
+                }
+            }
+        }
+    }
+
+    private double run(FakeSmtpServer smtpServer, ExecutorService executor, boolean offload) throws InterruptedException {
+        SmtpConcurrencyLimiter limiter = new SmtpConcurrencyLimiter(SMTP_SESSION_CAP, 60_000, offload);
+        EmailService emailService = emailService(smtpServer, limiter);
+        long acceptedBefore = smtpServer.accepted();
+        CountDownLatch done = new CountDownLatch(MESSAGES);
+        long start = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            int sequence = i;
+            executor.execute(() -> {
+                try {
+                    emailService.sendEmail("user" + sequence + "@example.com", "Benchmark " + sequence, "body");
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(5, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        limiter.shutdown();
+        assertEquals(MESSAGES, smtpServer.accepted() - acceptedBefore);
+        return MESSAGES / seconds;
+    }
+
+    private EmailService emailService(FakeSmtpServer smtpServer, SmtpConcurrencyLimiter limiter) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpServer.port());
+        EmailService emailService = new EmailService(mailSender, limiter, new NotificationMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(emailService, "sender", "benchmark@example.com");
+        return emailService;
+    }
+}
@@ -0,0 +1,23 @@
+package com.code_galacticos.taskservice.annotation;
+
+import com.code_galacticos.taskservice.model.enums.UserRole;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the current user to hold at least the given role in the project addressed by the request.
+ * The project is taken from the {@code projectIdVariable} path variable, or looked up from the task
+ * when {@code taskIdVariable} is set. Requests that fail the check are rejected with 403.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ProjectAccess {
+    UserRole value() default UserRole.MEMBER;
+
+    String projectIdVariable() default "projectId";
+
+    String taskIdVariable() default "";
+}
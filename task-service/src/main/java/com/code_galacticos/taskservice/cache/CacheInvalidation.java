@@ -0,0 +1,42 @@
+package com.code_galacticos.taskservice.cache;
+
+import java.util.UUID;
+
+/**
+ * One eviction to be repeated on the other instances. Each scope matches a local eviction method.
+ */
+public record CacheInvalidation(Scope scope, UUID projectId, UUID userId) {
+
+    public enum Scope {
+        /** Membership of one user in one project, see {@link ProjectMembershipIndex#evict}. */
+        MEMBERSHIP,
+        /** All memberships of a project, see {@link ProjectMembershipIndex#evictProject}. */
+        PROJECT_MEMBERSHIPS,
+        /** All memberships of a user, see {@link ProjectMembershipIndex#evictUser}. */
+        USER_MEMBERSHIPS,
+        /** Cached project entity, see {@link EntityCacheEvictor#evictProject}. */
+        PROJECT,
+        /** Cached user entity and email lookups, see {@link EntityCacheEvictor#evictUser}. */
+        USER
+    }
+
+    public static CacheInvalidation membership(UUID projectId, UUID userId) {
+        return new CacheInvalidation(Scope.MEMBERSHIP, projectId, userId);
+    }
+
+    public static CacheInvalidation projectMemberships(UUID projectId) {
+        return new CacheInvalidation(Scope.PROJECT_MEMBERSHIPS, projectId, null);
+    }
+
+    public static CacheInvalidation userMemberships(UUID userId) {
+        return new CacheInvalidation(Scope.USER_MEMBERSHIPS, null, userId);
+    }
+
+    public static CacheInvalidation project(UUID projectId) {
+        return new CacheInvalidation(Scope.PROJECT, projectId, null);
+    }
+
+    public static CacheInvalidation user(UUID userId) {
+        return new CacheInvalidation(Scope.USER, null, userId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.code_galacticos.taskservice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repeats the evictions broadcast by other instances on the local caches. Each instance consumes
+ * from its own exclusive queue bound to the fanout exchange. The queue goes away with the
+ * connection, so all local caches are cleared whenever a new connection is opened, as
+ * invalidations may have been missed in the meantime.
+ */
+@Component
+@ConditionalOnProperty(name = "task.near-cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CacheInvalidationListener {
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final ProjectMembershipIndex projectMembershipIndex;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    public CacheInvalidationListener(CacheInvalidationPublisher cacheInvalidationPublisher,
+                                     ProjectMembershipIndex projectMembershipIndex,
+                                     EntityCacheEvictor entityCacheEvictor,
+                                     ConnectionFactory connectionFactory) {
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.projectMembershipIndex = projectMembershipIndex;
+        this.entityCacheEvictor = entityCacheEvictor;
+        connectionFactory.addConnectionListener(connection -> clearAll());
+    }
+
+    @RabbitListener(queues = "#{cacheInvalidationQueue.name}")
+    public void onInvalidation(CacheInvalidationMessage message) {
+        if (cacheInvalidationPublisher.getOrigin().equals(message.origin())) {
+            return;
+        }
+        message.invalidations().forEach(this::apply);
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        switch (invalidation.scope()) {
+            case MEMBERSHIP -> projectMembershipIndex.evictLocally(invalidation.projectId(), invalidation.userId());
+            case PROJECT_MEMBERSHIPS -> projectMembershipIndex.evictProjectLocally(invalidation.projectId());
+            case USER_MEMBERSHIPS -> projectMembershipIndex.evictUserLocally(invalidation.userId());
+            case PROJECT -> entityCacheEvictor.evictProjectLocally(invalidation.projectId());
+            case USER -> entityCacheEvictor.evictUserLocally(invalidation.userId());
+        }
+    }
+
+    private void clearAll() {
+        log.info("Clearing local caches, cache invalidations may have been missed while disconnected");
+        projectMembershipIndex.clearLocally();
+        entityCacheEvictor.clearLocally();
+    }
+}
@@ -0,0 +1,11 @@
+package com.code_galacticos.taskservice.cache;
+
+import java.util.List;
+
+/**
+ * Invalidations of one committed transaction, broadcast to all instances.
+ *
+ * @param origin id of the publishing instance, which already evicted locally
+ */
+public record CacheInvalidationMessage(String origin, List<CacheInvalidation> invalidations) {
+}
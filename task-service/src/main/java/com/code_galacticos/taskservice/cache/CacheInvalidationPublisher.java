@@ -0,0 +1,73 @@
+package com.code_galacticos.taskservice.cache;
+
+import com.code_galacticos.taskservice.rabbit.RabbitMQConfig;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Broadcasts cache evictions to the other instances over the cache invalidation fanout exchange,
+ * where {@link CacheInvalidationListener} repeats them. Invalidations made in a transaction are
+ * collected and sent in one message once it commits, so no instance can reload the old state
+ * before the write is visible. A lost message leaves the other instances stale until their TTL.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationPublisher {
+    private final RabbitTemplate rabbitTemplate;
+    @Getter
+    private final String origin = "task-service-" + UUID.randomUUID();
+
+    @Value("${task.near-cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    public void publish(CacheInvalidation invalidation) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(invalidation));
+            return;
+        }
+        PendingInvalidations pending = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingInvalidations.class::isInstance)
+                .map(PendingInvalidations.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    PendingInvalidations created = new PendingInvalidations();
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+        pending.invalidations.add(invalidation);
+    }
+
+    private void send(List<CacheInvalidation> invalidations) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.CACHE_INVALIDATION_EXCHANGE_NAME, "",
+                    new CacheInvalidationMessage(origin, invalidations));
+        } catch (AmqpException e) {
+            log.warn("Failed to broadcast {} cache invalidations: {}", invalidations.size(), e.getMessage());
+        }
+    }
+
+    private final class PendingInvalidations implements TransactionSynchronization {
+        private final Set<CacheInvalidation> invalidations = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            send(List.copyOf(invalidations));
+        }
+    }
+}
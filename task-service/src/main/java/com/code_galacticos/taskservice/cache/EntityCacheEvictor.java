@@ -0,0 +1,57 @@
+package com.code_galacticos.taskservice.cache;
+
+import com.code_galacticos.taskservice.model.entity.ProjectEntity;
+import com.code_galacticos.taskservice.model.entity.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Evicts projects and users from the Hibernate second-level cache after they were changed with
+ * plain SQL, which bypasses the cache, or changed at all, as the caches of the other instances
+ * only learn about it from the broadcast eviction. Like {@link ProjectMembershipIndex}, it evicts
+ * right away and once more when the surrounding transaction completes.
+ */
+@Component
+public class EntityCacheEvictor {
+    private final Cache cache;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory,
+                              CacheInvalidationPublisher cacheInvalidationPublisher) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+    }
+
+    public void evictProject(UUID projectId) {
+        ProjectMembershipIndex.evictNowAndAfterCommit(() -> evictProjectLocally(projectId));
+        cacheInvalidationPublisher.publish(CacheInvalidation.project(projectId));
+    }
+
+    /**
+     * Also drops all cached email lookups, the user's email is not known here and an email of a
+     * deleted user can be registered again.
+     */
+    public void evictUser(UUID userId) {
+        ProjectMembershipIndex.evictNowAndAfterCommit(() -> evictUserLocally(userId));
+        cacheInvalidationPublisher.publish(CacheInvalidation.user(userId));
+    }
+
+    void evictProjectLocally(UUID projectId) {
+        cache.evictEntityData(ProjectEntity.class, projectId);
+    }
+
+    void evictUserLocally(UUID userId) {
+        cache.evictEntityData(UserEntity.class, userId);
+        cache.evictNaturalIdData(UserEntity.class);
+    }
+
+    void clearLocally() {
+        cache.evictEntityData(ProjectEntity.class);
+        cache.evictEntityData(UserEntity.class);
+        cache.evictNaturalIdData(UserEntity.class);
+    }
+}
@@ -0,0 +1,92 @@
+package com.code_galacticos.taskservice.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Small read-through cache held by each instance, with a fixed time to live. Writes on any instance
+ * invalidate it everywhere through {@link CacheInvalidationPublisher}, the TTL only bounds staleness
+ * when an invalidation is lost.
+ * <p>
+ * Values are loaded outside of any lock. Keys are spread over stripes with a version stamp each,
+ * which every invalidation of a key in the stripe increments. A value is cached with the stamp read
+ * before its load and only if the stamp is unchanged, so a value whose load overlapped an
+ * invalidation, local or remote, is returned but not cached, and a slower reader can never undo an
+ * invalidation.
+ */
+public class NearCache<K, V> {
+    private static final int STRIPES = 64;
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public NearCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached value or loads it. A {@code null} from the loader is returned and not cached.
+     */
+    public V get(K key, Function<K, V> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now - entry.expiresAtNanos() < 0) {
+            return entry.value();
+        }
+        int stripe = stripe(key);
+        long version = versions.get(stripe);
+        V value = loader.apply(key);
+        if (value == null) {
+            if (entry != null) {
+                entries.remove(key, entry);
+            }
+        } else if (versions.get(stripe) == version) {
+            if (entries.size() >= maxEntries) {
+                // Crude bound instead of an LRU, entries are cheap to reload
+                entries.clear();
+            }
+            // Checked again under the entry's lock, an invalidation removes the key only after incrementing the stamp
+            entries.compute(key, (k, current) -> versions.get(stripe) != version
+                    || current != null && current.version() > version
+                    ? current
+                    : new Entry<>(value, version, now + ttlNanos));
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        versions.incrementAndGet(stripe(key));
+        entries.remove(key);
+    }
+
+    public void invalidateIf(BiPredicate<K, V> predicate) {
+        incrementAllVersions();
+        entries.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue().value()));
+    }
+
+    public void clear() {
+        incrementAllVersions();
+        entries.clear();
+    }
+
+    private void incrementAllVersions() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            versions.incrementAndGet(stripe);
+        }
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private record Entry<V>(V value, long version, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.code_galacticos.taskservice.cache;
+
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import com.code_galacticos.taskservice.repository.TaskRepository;
+import com.code_galacticos.taskservice.repository.UserProjectConnectionRepository;
+import com.code_galacticos.taskservice.repository.projection.ProjectRoleView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user access control list used by the project authorization check. All memberships of a user
+ * are loaded with one query and kept as a compact project id to role map, so the
+ * check costs a map lookup per request. Entries are evicted on membership writes on any instance, see
+ * {@link ProjectMembershipIndex}; the TTL bounds staleness if an invalidation is lost.
+ */
+@Component
+public class ProjectAccessCache {
+    private final UserProjectConnectionRepository userProjectConnectionRepository;
+    private final TaskRepository taskRepository;
+    private final NearCache<UUID, Map<UUID, UserRole>> rolesByUser;
+    private final NearCache<UUID, UUID> projectByTask;
+
+    public ProjectAccessCache(UserProjectConnectionRepository userProjectConnectionRepository,
+                              TaskRepository taskRepository,
+                              @Value("${task.access-cache.ttl:5m}") Duration ttl,
+                              @Value("${task.access-cache.max-entries:50000}") int maxEntries) {
+        this.userProjectConnectionRepository = userProjectConnectionRepository;
+        this.taskRepository = taskRepository;
+        this.rolesByUser = new NearCache<>(ttl, maxEntries);
+        // A task never moves between projects, the TTL only bounds the memory of deleted tasks
+        this.projectByTask = new NearCache<>(Duration.ofMinutes(10), maxEntries);
+    }
+
+    /**
+     * Role of the user in the project, or empty if the user is not a member.
+     */
+    public Optional<UserRole> findRole(UUID userId, UUID projectId) {
+        return Optional.ofNullable(rolesByUser.get(userId, this::loadRoles).get(projectId));
+    }
+
+    /**
+     * Project the task belongs to, or empty if the task does not exist.
+     */
+    public Optional<UUID> findProjectOfTask(UUID taskId) {
+        return Optional.ofNullable(projectByTask.get(taskId, id -> taskRepository.findProjectIdById(id).orElse(null)));
+    }
+
+    public void evictUser(UUID userId) {
+        rolesByUser.invalidate(userId);
+    }
+
+    public void evictProject(UUID projectId) {
+        rolesByUser.invalidateIf((userId, roles) -> roles.containsKey(projectId));
+        projectByTask.invalidateIf((taskId, taskProjectId) -> taskProjectId.equals(projectId));
+    }
+
+    public void clear() {
+        rolesByUser.clear();
+        projectByTask.clear();
+    }
+
+    private Map<UUID, UserRole> loadRoles(UUID userId) {
+        return userProjectConnectionRepository.findProjectRolesByUserId(userId).stream()
+                .collect(Collectors.toUnmodifiableMap(ProjectRoleView::getProjectId, ProjectRoleView::getRole));
+    }
+}
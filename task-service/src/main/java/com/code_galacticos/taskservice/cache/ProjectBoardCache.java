@@ -0,0 +1,153 @@
+package com.code_galacticos.taskservice.cache;
+
+import com.code_galacticos.taskservice.model.entity.TaskEntity;
+import com.code_galacticos.taskservice.repository.ProjectBoardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Board snapshots of the most read projects, see {@link ProjectBoardSnapshot}. Disabled by default,
+ * every board read then loads a snapshot of its own.
+ * <p>
+ * A snapshot is loaded on the first read of a project and reloaded once it is older than the TTL.
+ * Task writes through the task service are applied to the snapshot once they are committed, so
+ * readers on this instance see them right away; the TTL bounds staleness of writes made by other
+ * instances or with plain SQL. Loads and changes of one project are serialized, a change committed
+ * while the snapshot is loaded is applied to the loaded snapshot. Beyond the maximum, the project
+ * read least recently is dropped.
+ */
+@Component
+public class ProjectBoardCache {
+    private final ProjectBoardRepository projectBoardRepository;
+    private final ConcurrentMap<UUID, Board> boards = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxProjects;
+
+    public ProjectBoardCache(ProjectBoardRepository projectBoardRepository,
+                             @Value("${task.board-snapshot.enabled:false}") boolean enabled,
+                             @Value("${task.board-snapshot.ttl:1m}") Duration ttl,
+                             @Value("${task.board-snapshot.max-projects:200}") int maxProjects) {
+        this.projectBoardRepository = projectBoardRepository;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.maxProjects = maxProjects;
+    }
+
+    public ProjectBoardSnapshot getSnapshot(UUID projectId) {
+        if (!enabled) {
+            return projectBoardRepository.loadBoard(projectId);
+        }
+        Board board = boards.computeIfAbsent(projectId, Board::new);
+        if (boards.size() > maxProjects) {
+            dropLeastRecentlyRead();
+        }
+        return board.read();
+    }
+
+    /**
+     * Applies a created, changed or restored task once the surrounding transaction commits, or right
+     * away without one.
+     */
+    public void taskSaved(TaskEntity task) {
+        if (task.getProject() != null) {
+            ProjectBoardSnapshot.Row row = ProjectBoardSnapshot.Row.of(task);
+            applyAfterCommit(task.getProject().getId(), snapshot -> snapshot.withTask(row));
+        }
+    }
+
+    /**
+     * Removes a deleted task once the surrounding transaction commits, or right away without one.
+     */
+    public void taskDeleted(TaskEntity task) {
+        if (task.getProject() != null) {
+            UUID taskId = task.getId();
+            applyAfterCommit(task.getProject().getId(), snapshot -> snapshot.withoutTask(taskId));
+        }
+    }
+
+    /**
+     * Drops the project's snapshot after its tasks were changed outside of the task service,
+     * right away and once more when the surrounding transaction completes.
+     */
+    public void evictProject(UUID projectId) {
+        ProjectMembershipIndex.evictNowAndAfterCommit(() -> boards.remove(projectId));
+    }
+
+    public void clear() {
+        ProjectMembershipIndex.evictNowAndAfterCommit(boards::clear);
+    }
+
+    private void applyAfterCommit(UUID projectId, UnaryOperator<ProjectBoardSnapshot> change) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(projectId, change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(projectId, change);
+            }
+        });
+    }
+
+    private void apply(UUID projectId, UnaryOperator<ProjectBoardSnapshot> change) {
+        Board board = boards.get(projectId);
+        if (board != null) {
+            board.apply(change);
+        }
+    }
+
+    private void dropLeastRecentlyRead() {
+        boards.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().lastReadNanos))
+                .map(Map.Entry::getKey)
+                .ifPresent(boards::remove);
+    }
+
+    private final class Board {
+        private final UUID projectId;
+        private volatile ProjectBoardSnapshot snapshot;
+        private volatile long loadedAtNanos;
+        private volatile long lastReadNanos = System.nanoTime();
+
+        private Board(UUID projectId) {
+            this.projectId = projectId;
+        }
+
+        ProjectBoardSnapshot read() {
+            lastReadNanos = System.nanoTime();
+            ProjectBoardSnapshot current = snapshot;
+            if (current != null && lastReadNanos - loadedAtNanos < ttlNanos) {
+                return current;
+            }
+            synchronized (this) {
+                long start = System.nanoTime();
+                if (snapshot == null || start - loadedAtNanos >= ttlNanos) {
+                    snapshot = projectBoardRepository.loadBoard(projectId);
+                    loadedAtNanos = start;
+                }
+                return snapshot;
+            }
+        }
+
+        synchronized void apply(UnaryOperator<ProjectBoardSnapshot> change) {
+            if (snapshot != null) {
+                snapshot = change.apply(snapshot);
+            }
+        }
+    }
+}
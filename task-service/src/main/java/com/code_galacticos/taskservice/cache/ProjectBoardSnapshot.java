@@ -0,0 +1,349 @@
+package com.code_galacticos.taskservice.cache;
+
+import com.code_galacticos.taskservice.model.dto.task.BoardTaskDto;
+import com.code_galacticos.taskservice.model.entity.TaskEntity;
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable column-oriented copy of the tasks of one project, holding what a board shows. Each column
+ * is a primitive array indexed by row: ids as two longs, status and priority as enum ordinals,
+ * assignees as indexes into a dictionary of the project's assignees, deadlines and creation times
+ * as epoch microseconds. Descriptions and reporters are not kept.
+ * <p>
+ * The row order of each {@link Sort} is computed on first use and kept with the snapshot, so a
+ * board read is a single pass over one order array. Changes produce a new snapshot.
+ */
+public final class ProjectBoardSnapshot {
+    public enum Sort {
+        /**
+         * Deadline, tasks without one last, then priority from urgent to low.
+         */
+        DEADLINE,
+        /**
+         * Priority from urgent to low, then deadline.
+         */
+        PRIORITY,
+        /**
+         * Newest first.
+         */
+        CREATED_AT
+    }
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final int UNASSIGNED = -1;
+
+    private final int size;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final String[] names;
+    private final byte[] statuses;
+    private final byte[] priorities;
+    private final int[] assignees;
+    private final UUID[] assigneeDictionary;
+    private final long[] deadlines;
+    private final long[] createdAt;
+    private final AtomicReferenceArray<int[]> orders = new AtomicReferenceArray<>(Sort.values().length);
+
+    private ProjectBoardSnapshot(int size, long[] idHigh, long[] idLow, String[] names, byte[] statuses,
+                                 byte[] priorities, int[] assignees, UUID[] assigneeDictionary,
+                                 long[] deadlines, long[] createdAt) {
+        this.size = size;
+        this.idHigh = idHigh;
+        this.idLow = idLow;
+        this.names = names;
+        this.statuses = statuses;
+        this.priorities = priorities;
+        this.assignees = assignees;
+        this.assigneeDictionary = assigneeDictionary;
+        this.deadlines = deadlines;
+        this.createdAt = createdAt;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads one page of the board.
+     *
+     * @param includedStatuses statuses to include, all if empty
+     * @param includedPriorities priorities to include, all if empty
+     * @param assigneeId only tasks of this assignee, all tasks if null
+     * @param offset number of matching tasks to skip
+     * @param limit largest number of tasks returned
+     */
+    public Page query(Collection<TaskStatus> includedStatuses, Collection<TaskPriority> includedPriorities,
+                      UUID assigneeId, Sort sort, int offset, int limit) {
+        int statusMask = mask(includedStatuses);
+        int priorityMask = mask(includedPriorities);
+        int assignee = assigneeId == null ? UNASSIGNED : assigneeCode(assigneeId);
+        if (assigneeId != null && assignee == UNASSIGNED) {
+            return new Page(List.of(), 0, countsByStatus(new long[STATUSES.length]));
+        }
+
+        long[] counts = new long[STATUSES.length];
+        List<BoardTaskDto> tasks = new ArrayList<>(Math.min(limit, size));
+        int matching = 0;
+        for (int row : order(sort)) {
+            if ((assigneeId != null && assignees[row] != assignee) || (priorityMask & 1 << priorities[row]) == 0) {
+                continue;
+            }
+            counts[statuses[row]]++;
+            if ((statusMask & 1 << statuses[row]) == 0) {
+                continue;
+            }
+            if (matching >= offset && tasks.size() < limit) {
+                tasks.add(toDto(row));
+            }
+            matching++;
+        }
+        return new Page(tasks, matching, countsByStatus(counts));
+    }
+
+    /**
+     * Returns a snapshot with the task added, or replacing the row of the task with the same id.
+     */
+    public ProjectBoardSnapshot withTask(Row task) {
+        int row = indexOf(task.id());
+        int newSize = row < 0 ? size + 1 : size;
+        int target = row < 0 ? size : row;
+        UUID[] dictionary = assigneeDictionary;
+        int assignee = UNASSIGNED;
+        if (task.assigneeId() != null) {
+            assignee = assigneeCode(task.assigneeId());
+            if (assignee == UNASSIGNED) {
+                assignee = dictionary.length;
+                dictionary = Arrays.copyOf(dictionary, dictionary.length + 1);
+                dictionary[assignee] = task.assigneeId();
+            }
+        }
+        ProjectBoardSnapshot changed = new ProjectBoardSnapshot(newSize,
+                Arrays.copyOf(idHigh, newSize), Arrays.copyOf(idLow, newSize), Arrays.copyOf(names, newSize),
+                Arrays.copyOf(statuses, newSize), Arrays.copyOf(priorities, newSize),
+                Arrays.copyOf(assignees, newSize), dictionary,
+                Arrays.copyOf(deadlines, newSize), Arrays.copyOf(createdAt, newSize));
+        changed.set(target, task, assignee);
+        return changed;
+    }
+
+    /**
+     * Returns a snapshot without the task, or this snapshot if it has no such task.
+     */
+    public ProjectBoardSnapshot withoutTask(UUID taskId) {
+        int row = indexOf(taskId);
+        if (row < 0) {
+            return this;
+        }
+        return new ProjectBoardSnapshot(size - 1,
+                remove(idHigh, row), remove(idLow, row), remove(names, row),
+                remove(statuses, row), remove(priorities, row), remove(assignees, row), assigneeDictionary,
+                remove(deadlines, row), remove(createdAt, row));
+    }
+
+    private void set(int row, Row task, int assignee) {
+        idHigh[row] = task.id().getMostSignificantBits();
+        idLow[row] = task.id().getLeastSignificantBits();
+        names[row] = task.name();
+        statuses[row] = (byte) task.status().ordinal();
+        priorities[row] = (byte) task.priority().ordinal();
+        assignees[row] = assignee;
+        deadlines[row] = task.deadline() == null ? NO_DEADLINE : toMicros(task.deadline());
+        createdAt[row] = toMicros(task.createdAt());
+    }
+
+    private int indexOf(UUID taskId) {
+        long high = taskId.getMostSignificantBits();
+        long low = taskId.getLeastSignificantBits();
+        for (int row = 0; row < size; row++) {
+            if (idLow[row] == low && idHigh[row] == high) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private int assigneeCode(UUID assigneeId) {
+        for (int code = 0; code < assigneeDictionary.length; code++) {
+            if (assigneeDictionary[code].equals(assigneeId)) {
+                return code;
+            }
+        }
+        return UNASSIGNED;
+    }
+
+    private int[] order(Sort sort) {
+        int[] order = orders.get(sort.ordinal());
+        if (order == null) {
+            order = IntStream.range(0, size).boxed()
+                    .sorted(comparator(sort))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            orders.set(sort.ordinal(), order);
+        }
+        return order;
+    }
+
+    private Comparator<Integer> comparator(Sort sort) {
+        Comparator<Integer> byDeadline = Comparator.comparingLong(row -> deadlines[row]);
+        Comparator<Integer> byPriority = Comparator.comparingInt(row -> -priorities[row]);
+        Comparator<Integer> byId = Comparator.<Integer>comparingLong(row -> idHigh[row])
+                .thenComparingLong(row -> idLow[row]);
+        return switch (sort) {
+            case DEADLINE -> byDeadline.thenComparing(byPriority).thenComparing(byId);
+            case PRIORITY -> byPriority.thenComparing(byDeadline).thenComparing(byId);
+            case CREATED_AT -> Comparator.<Integer>comparingLong(row -> -createdAt[row]).thenComparing(byId);
+        };
+    }
+
+    private BoardTaskDto toDto(int row) {
+        return BoardTaskDto.builder()
+                .taskId(new UUID(idHigh[row], idLow[row]))
+                .name(names[row])
+                .status(STATUSES[statuses[row]])
+                .priority(PRIORITIES[priorities[row]])
+                .deadline(deadlines[row] == NO_DEADLINE ? null : fromMicros(deadlines[row]))
+                .assigneeId(assignees[row] == UNASSIGNED ? null : assigneeDictionary[assignees[row]])
+                .createdAt(fromMicros(createdAt[row]))
+                .build();
+    }
+
+    private static Map<TaskStatus, Long> countsByStatus(long[] counts) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            byStatus.put(status, counts[status.ordinal()]);
+        }
+        return byStatus;
+    }
+
+    private static int mask(Collection<? extends Enum<?>> values) {
+        if (values == null || values.isEmpty()) {
+            return -1;
+        }
+        int mask = 0;
+        for (Enum<?> value : values) {
+            mask |= 1 << value.ordinal();
+        }
+        return mask;
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static long[] remove(long[] column, int row) {
+        long[] removed = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, removed, row, column.length - row - 1);
+        return removed;
+    }
+
+    private static int[] remove(int[] column, int row) {
+        int[] removed = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, removed, row, column.length - row - 1);
+        return removed;
+    }
+
+    private static byte[] remove(byte[] column, int row) {
+        byte[] removed = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, removed, row, column.length - row - 1);
+        return removed;
+    }
+
+    private static String[] remove(String[] column, int row) {
+        String[] removed = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, removed, row, column.length - row - 1);
+        return removed;
+    }
+
+    /**
+     * One page of a board read.
+     *
+     * @param totalElements number of tasks matching all filters
+     * @param tasksByStatus tasks matching the priority and assignee filters by status, every status is present
+     */
+    public record Page(List<BoardTaskDto> tasks, long totalElements, Map<TaskStatus, Long> tasksByStatus) {
+    }
+
+    /**
+     * The board columns of one task.
+     */
+    public record Row(UUID id, String name, TaskStatus status, TaskPriority priority, LocalDateTime deadline,
+                      UUID assigneeId, LocalDateTime createdAt) {
+
+        public static Row of(TaskEntity task) {
+            return new Row(task.getId(), task.getName(), task.getStatus(), task.getPriority(), task.getDeadline(),
+                    task.getAssignee() == null ? null : task.getAssignee().getId(), task.getCreatedAt());
+        }
+    }
+
+    /**
+     * Collects rows into column arrays that grow as needed, the assignee dictionary is built on the way.
+     */
+    public static class Builder {
+        private int size;
+        private long[] idHigh = new long[16];
+        private long[] idLow = new long[16];
+        private String[] names = new String[16];
+        private byte[] statuses = new byte[16];
+        private byte[] priorities = new byte[16];
+        private int[] assignees = new int[16];
+        private long[] deadlines = new long[16];
+        private long[] createdAt = new long[16];
+        private final Map<UUID, Integer> assigneeCodes = new LinkedHashMap<>();
+
+        public Builder add(Row task) {
+            if (size == idHigh.length) {
+                int capacity = size * 2;
+                idHigh = Arrays.copyOf(idHigh, capacity);
+                idLow = Arrays.copyOf(idLow, capacity);
+                names = Arrays.copyOf(names, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                priorities = Arrays.copyOf(priorities, capacity);
+                assignees = Arrays.copyOf(assignees, capacity);
+                deadlines = Arrays.copyOf(deadlines, capacity);
+                createdAt = Arrays.copyOf(createdAt, capacity);
+            }
+            int row = size++;
+            idHigh[row] = task.id().getMostSignificantBits();
+            idLow[row] = task.id().getLeastSignificantBits();
+            names[row] = task.name();
+            statuses[row] = (byte) task.status().ordinal();
+            priorities[row] = (byte) task.priority().ordinal();
+            assignees[row] = task.assigneeId() == null
+                    ? UNASSIGNED
+                    : assigneeCodes.computeIfAbsent(task.assigneeId(), id -> assigneeCodes.size());
+            deadlines[row] = task.deadline() == null ? NO_DEADLINE : toMicros(task.deadline());
+            createdAt[row] = toMicros(task.createdAt());
+            return this;
+        }
+
+        public ProjectBoardSnapshot build() {
+            return new ProjectBoardSnapshot(size,
+                    Arrays.copyOf(idHigh, size), Arrays.copyOf(idLow, size), Arrays.copyOf(names, size),
+                    Arrays.copyOf(statuses, size), Arrays.copyOf(priorities, size), Arrays.copyOf(assignees, size),
+                    assigneeCodes.keySet().toArray(UUID[]::new),
+                    Arrays.copyOf(deadlines, size), Arrays.copyOf(createdAt, size));
+        }
+    }
+}
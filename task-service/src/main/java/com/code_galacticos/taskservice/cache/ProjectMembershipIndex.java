@@ -0,0 +1,142 @@
+package com.code_galacticos.taskservice.cache;
+
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import com.code_galacticos.taskservice.repository.UserProjectConnectionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory index of project memberships, mapping (project, user) to the user's role and each
+ * project to its owner. Misses are loaded with single-row queries on user_proj_connection and only
+ * existing memberships are cached, so a user added by another instance is visible immediately.
+ * <p>
+ * Every write to user_proj_connection must evict the affected entries, which also evicts the
+ * per-user entries of {@link ProjectAccessCache} and the project summaries of
+ * {@link ProjectSummaryCache}, and forgets member list reads in flight in {@link ProjectReadCoalescer}.
+ * Eviction happens right away and once more when the surrounding transaction completes, so a concurrent reader cannot re-cache
+ * the old role from a snapshot taken before the commit. After the commit the eviction is broadcast
+ * to the other instances, which drop their copies of the removed or changed roles.
+ */
+@Component
+public class ProjectMembershipIndex {
+    private final UserProjectConnectionRepository userProjectConnectionRepository;
+    private final ProjectAccessCache projectAccessCache;
+    private final ProjectSummaryCache projectSummaryCache;
+    private final ProjectReadCoalescer projectReadCoalescer;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final NearCache<MembershipKey, UserRole> roles;
+    private final NearCache<UUID, UUID> owners;
+
+    public ProjectMembershipIndex(UserProjectConnectionRepository userProjectConnectionRepository,
+                                  ProjectAccessCache projectAccessCache,
+                                  ProjectSummaryCache projectSummaryCache,
+                                  ProjectReadCoalescer projectReadCoalescer,
+                                  CacheInvalidationPublisher cacheInvalidationPublisher,
+                                  @Value("${task.membership-index.ttl:10m}") Duration ttl,
+                                  @Value("${task.membership-index.max-entries:100000}") int maxEntries) {
+        this.userProjectConnectionRepository = userProjectConnectionRepository;
+        this.projectAccessCache = projectAccessCache;
+        this.projectSummaryCache = projectSummaryCache;
+        this.projectReadCoalescer = projectReadCoalescer;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.roles = new NearCache<>(ttl, maxEntries);
+        this.owners = new NearCache<>(ttl, maxEntries);
+    }
+
+    /**
+     * Role of the user in the project, or empty if the user is not a member.
+     */
+    public Optional<UserRole> findRole(UUID projectId, UUID userId) {
+        return Optional.ofNullable(roles.get(new MembershipKey(projectId, userId), key ->
+                userProjectConnectionRepository.findRoleByProjectIdAndUserId(key.projectId(), key.userId()).orElse(null)));
+    }
+
+    /**
+     * Id of the project's owner, or empty if the project has none.
+     */
+    public Optional<UUID> findOwnerId(UUID projectId) {
+        return Optional.ofNullable(owners.get(projectId, id ->
+                userProjectConnectionRepository.findOwnerIdsByProjectId(id).stream().findFirst().orElse(null)));
+    }
+
+    /**
+     * Evicts one membership after a connection of the user in the project was created, changed or removed.
+     */
+    public void evict(UUID projectId, UUID userId) {
+        evictNowAndAfterCommit(() -> evictLocally(projectId, userId));
+        cacheInvalidationPublisher.publish(CacheInvalidation.membership(projectId, userId));
+    }
+
+    /**
+     * Evicts every membership of a project, e.g. after the project was deleted.
+     */
+    public void evictProject(UUID projectId) {
+        evictNowAndAfterCommit(() -> evictProjectLocally(projectId));
+        cacheInvalidationPublisher.publish(CacheInvalidation.projectMemberships(projectId));
+    }
+
+    /**
+     * Evicts every membership of a user, e.g. after the user was deleted.
+     */
+    public void evictUser(UUID userId) {
+        evictNowAndAfterCommit(() -> evictUserLocally(userId));
+        cacheInvalidationPublisher.publish(CacheInvalidation.userMemberships(userId));
+    }
+
+    void evictLocally(UUID projectId, UUID userId) {
+        roles.invalidate(new MembershipKey(projectId, userId));
+        owners.invalidate(projectId);
+        projectAccessCache.evictUser(userId);
+        projectSummaryCache.evictProject(projectId);
+        projectReadCoalescer.forgetMembers(projectId);
+    }
+
+    void evictProjectLocally(UUID projectId) {
+        roles.invalidateIf((key, role) -> key.projectId().equals(projectId));
+        owners.invalidate(projectId);
+        projectAccessCache.evictProject(projectId);
+        projectSummaryCache.evictProject(projectId);
+        projectReadCoalescer.forgetMembers(projectId);
+    }
+
+    void evictUserLocally(UUID userId) {
+        roles.invalidateIf((key, role) -> key.userId().equals(userId));
+        owners.invalidateIf((projectId, ownerId) -> ownerId.equals(userId));
+        projectAccessCache.evictUser(userId);
+        // The user's projects are not known here, rare enough to drop all summaries
+        projectSummaryCache.clear();
+        projectReadCoalescer.forgetAllMembers();
+    }
+
+    void clearLocally() {
+        roles.clear();
+        owners.clear();
+        projectAccessCache.clear();
+        projectSummaryCache.clear();
+        projectReadCoalescer.forgetAllMembers();
+    }
+
+    /**
+     * Runs an eviction right away and once more when the surrounding transaction completes, if any.
+     */
+    public static void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private record MembershipKey(UUID projectId, UUID userId) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.code_galacticos.taskservice.cache;
+
+import com.code_galacticos.taskservice.model.entity.TaskEntity;
+import com.code_galacticos.taskservice.model.entity.UserProjectConnection;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the project reads that a board opened by a whole team at once issues many times over:
+ * the task list and the member list of a project. Concurrent identical reads share one query, see
+ * {@link SingleFlight}. The shared lists are unmodifiable and their entities must not be changed.
+ * <p>
+ * Task writes forget the project's task reads through the task service, membership writes forget
+ * its member reads through {@link ProjectMembershipIndex}, both right away and once more when the
+ * surrounding transaction completes.
+ */
+@Component
+public class ProjectReadCoalescer {
+    private final SingleFlight<TaskListKey, List<TaskEntity>> tasks;
+    private final SingleFlight<UUID, List<UserProjectConnection>> members;
+    private final boolean enabled;
+
+    public ProjectReadCoalescer(MeterRegistry meterRegistry,
+                                @Value("${task.single-flight.enabled:true}") boolean enabled) {
+        this.tasks = new SingleFlight<>("project-tasks", meterRegistry);
+        this.members = new SingleFlight<>("project-members", meterRegistry);
+        this.enabled = enabled;
+    }
+
+    public List<TaskEntity> getTasks(UUID projectId, boolean includeClosed, Supplier<List<TaskEntity>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return tasks.get(new TaskListKey(projectId, includeClosed), () -> List.copyOf(loader.get()));
+    }
+
+    public List<UserProjectConnection> getMembers(UUID projectId, Supplier<List<UserProjectConnection>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return members.get(projectId, () -> List.copyOf(loader.get()));
+    }
+
+    public void forgetTasks(UUID projectId) {
+        ProjectMembershipIndex.evictNowAndAfterCommit(() -> tasks.forgetIf(key -> key.projectId().equals(projectId)));
+    }
+
+    void forgetMembers(UUID projectId) {
+        members.forget(projectId);
+    }
+
+    void forgetAllMembers() {
+        members.forgetIf(projectId -> true);
+    }
+
+    private record TaskListKey(UUID projectId, boolean includeClosed) {
+    }
+}
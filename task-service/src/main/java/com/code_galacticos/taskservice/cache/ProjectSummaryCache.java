@@ -0,0 +1,42 @@
+package com.code_galacticos.taskservice.cache;
+
+import com.code_galacticos.taskservice.model.dto.project.ProjectSummaryDto;
+import com.code_galacticos.taskservice.repository.ProjectSummaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Dashboard summaries of projects, kept for a few seconds. Task writes evict the project's entry
+ * through the task service and membership writes through {@link ProjectMembershipIndex}; the TTL
+ * bounds staleness of writes made by other instances.
+ */
+@Component
+public class ProjectSummaryCache {
+    private final ProjectSummaryRepository projectSummaryRepository;
+    private final NearCache<UUID, ProjectSummaryDto> summaries;
+    private final int topAssignees;
+
+    public ProjectSummaryCache(ProjectSummaryRepository projectSummaryRepository,
+                               @Value("${task.summary-cache.ttl:10s}") Duration ttl,
+                               @Value("${task.summary-cache.max-entries:10000}") int maxEntries,
+                               @Value("${task.summary.top-assignees:5}") int topAssignees) {
+        this.projectSummaryRepository = projectSummaryRepository;
+        this.summaries = new NearCache<>(ttl, maxEntries);
+        this.topAssignees = topAssignees;
+    }
+
+    public ProjectSummaryDto getSummary(UUID projectId) {
+        return summaries.get(projectId, id -> projectSummaryRepository.loadSummary(id, topAssignees));
+    }
+
+    public void evictProject(UUID projectId) {
+        summaries.invalidate(projectId);
+    }
+
+    public void clear() {
+        summaries.clear();
+    }
+}
@@ -0,0 +1,89 @@
+package com.code_galacticos.taskservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent calls for the same key share one load. The first caller runs the load on its own
+ * thread, callers arriving while it runs wait for it and get the same result or exception. Nothing is
+ * kept once the load finished, so this deduplicates a burst of identical reads but is no cache.
+ * <p>
+ * {@link #forget(Object)} detaches a running load, later callers start a new one. Writers call it so
+ * that a read issued after their commit never joins a load that started before it.
+ * <p>
+ * Calls are counted in {@code workhub.single-flight.calls}, tagged with the flight name and
+ * {@code result=leader} for calls that ran the load or {@code result=coalesced} for calls that joined
+ * one. The share of coalesced calls is the query load saved.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders = callCounter(meterRegistry, name, "leader");
+        this.coalesced = callCounter(meterRegistry, name, "coalesced");
+        meterRegistry.gaugeMapSize("workhub.single-flight.in-flight", Tags.of("name", name), inFlight);
+    }
+
+    /**
+     * Returns the result of the load running for the key, or runs the load.
+     */
+    public V get(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            coalesced.increment();
+            return join(running);
+        }
+        leaders.increment();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetIf(Predicate<K> predicate) {
+        inFlight.keySet().removeIf(predicate);
+    }
+
+    private static <V> V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("workhub.single-flight.calls")
+                .description("Reads that ran a query or shared the result of an identical query in flight")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+package com.code_galacticos.taskservice.cli;
+
+import com.code_galacticos.taskservice.model.dto.project.ProjectImportResultDto;
+import com.code_galacticos.taskservice.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Runs a bulk import from the command line and exits, for migrations done in a maintenance window:
+ * <pre>
+ * java -jar task-service.jar --spring.main.web-application-type=none \
+ *      --import.project=&lt;project uuid&gt; --import.users=users.csv --import.members=members.csv --import.tasks=tasks.csv
+ * </pre>
+ * Any of the files may be left out, see {@link BulkImportService} for the expected columns.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "import.project")
+public class ImportRunner implements ApplicationRunner {
+    private final BulkImportService bulkImportService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${import.project}")
+    private UUID projectId;
+
+    @Value("${import.users:}")
+    private String usersFile;
+
+    @Value("${import.members:}")
+    private String membersFile;
+
+    @Value("${import.tasks:}")
+    private String tasksFile;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try (Reader users = open(usersFile);
+             Reader members = open(membersFile);
+             Reader tasks = open(tasksFile)) {
+            ProjectImportResultDto result = bulkImportService.importProject(projectId, users, members, tasks);
+            log.info("Import finished: {}", result);
+        } catch (Exception e) {
+            log.error("Import into project {} failed, nothing was imported", projectId, e);
+            exitCode = 1;
+        }
+        int finalExitCode = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, (ExitCodeGenerator) () -> finalExitCode));
+    }
+
+    private static Reader open(String file) throws IOException {
+        return file.isBlank() ? null : Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8);
+    }
+}
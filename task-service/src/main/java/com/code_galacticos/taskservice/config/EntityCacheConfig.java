@@ -0,0 +1,65 @@
+package com.code_galacticos.taskservice.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache for projects and users, which are read on almost every request and
+ * rarely change. Entries live in bounded in-process Caffeine caches behind JCache. Writes through
+ * Hibernate update the local cache themselves, but every write must evict through
+ * {@link com.code_galacticos.taskservice.cache.EntityCacheEvictor}, which also evicts on the other
+ * instances. The TTL bounds staleness if an invalidation is lost.
+ * <p>
+ * Hit and miss counts per region are exported as {@code hibernate.second.level.cache.requests}
+ * and {@code hibernate.cache.natural.id.requests}.
+ */
+@Configuration
+public class EntityCacheConfig {
+    public static final String PROJECT_REGION = "project";
+    public static final String USER_REGION = "user";
+    public static final String USER_EMAIL_REGION = "user-email";
+
+    @Bean
+    public CacheManager entityCacheManager(@Value("${task.entity-cache.ttl:5m}") Duration ttl,
+                                           @Value("${task.entity-cache.projects.max-entries:10000}") long maxProjects,
+                                           @Value("${task.entity-cache.users.max-entries:50000}") long maxUsers) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        createCache(cacheManager, PROJECT_REGION, ttl, maxProjects);
+        createCache(cacheManager, USER_REGION, ttl, maxUsers);
+        createCache(cacheManager, USER_EMAIL_REGION, ttl, maxUsers);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", entityCacheManager);
+            // Every cached entity must have a region configured above
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+            properties.put("hibernate.generate_statistics", true);
+        };
+    }
+
+    private static void createCache(CacheManager cacheManager, String region, Duration ttl, long maxEntries) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        // Hibernate already stores disassembled copies, copying them again on every read is wasted work
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(region, configuration);
+    }
+}
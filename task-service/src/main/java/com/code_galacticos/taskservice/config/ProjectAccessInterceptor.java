@@ -0,0 +1,87 @@
+package com.code_galacticos.taskservice.config;
+
+import com.code_galacticos.taskservice.annotation.ProjectAccess;
+import com.code_galacticos.taskservice.cache.ProjectAccessCache;
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Enforces {@link ProjectAccess} on controller methods. Runs after FirebaseAuthInterceptor,
+ * which stores the authenticated user's id in the "user-id" request attribute.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ProjectAccessInterceptor implements HandlerInterceptor {
+
+    private final ProjectAccessCache projectAccessCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ProjectAccess projectAccess = handlerMethod.getMethodAnnotation(ProjectAccess.class);
+        if (projectAccess == null) {
+            projectAccess = handlerMethod.getBeanType().getAnnotation(ProjectAccess.class);
+        }
+        if (projectAccess == null) {
+            return true;
+        }
+
+        Object userId = request.getAttribute("user-id");
+        if (!(userId instanceof UUID currentUserId)) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        boolean byTask = !projectAccess.taskIdVariable().isEmpty();
+        String variable = byTask ? projectAccess.taskIdVariable() : projectAccess.projectIdVariable();
+        String rawId = pathVariables == null ? null : pathVariables.get(variable);
+        UUID id = null;
+        if (rawId != null) {
+            try {
+                id = UUID.fromString(rawId);
+            } catch (IllegalArgumentException e) {
+                reject(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid " + variable);
+                return false;
+            }
+        }
+        Optional<UUID> projectId = id == null ? Optional.empty()
+                : byTask ? projectAccessCache.findProjectOfTask(id) : Optional.of(id);
+
+        UserRole required = projectAccess.value();
+        boolean allowed = projectId
+                .flatMap(project -> projectAccessCache.findRole(currentUserId, project))
+                .map(role -> role.isAtLeast(required))
+                .orElse(false);
+        if (!allowed) {
+            reject(response, HttpServletResponse.SC_FORBIDDEN, "Requires role " + required + " in the project");
+        }
+        return allowed;
+    }
+
+    private static void reject(HttpServletResponse response, int status, String message) {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        try {
+            response.getWriter().write("{\"message\": \"" + message + "\"}");
+        } catch (Exception e) {
+            log.error("Error writing response", e);
+        }
+    }
+}
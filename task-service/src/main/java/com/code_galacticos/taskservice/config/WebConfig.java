@@ -15,11 +15,15 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final FirebaseAuthInterceptor firebaseAuthInterceptor;
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final ProjectAccessInterceptor projectAccessInterceptor;
 
     @Autowired
-    public WebConfig(FirebaseAuthInterceptor firebaseAuthInterceptor, CurrentUserArgumentResolver currentUserArgumentResolver) {
+    public WebConfig(FirebaseAuthInterceptor firebaseAuthInterceptor,
+                     CurrentUserArgumentResolver currentUserArgumentResolver,
+                     ProjectAccessInterceptor projectAccessInterceptor) {
         this.firebaseAuthInterceptor = firebaseAuthInterceptor;
         this.currentUserArgumentResolver = currentUserArgumentResolver;
+        this.projectAccessInterceptor = projectAccessInterceptor;
     }
 
 
@@ -27,6 +31,9 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(firebaseAuthInterceptor)
                 .addPathPatterns("/api/**");
+        // Must run after authentication, it relies on the user id stored by the Firebase interceptor
+        registry.addInterceptor(projectAccessInterceptor)
+                .addPathPatterns("/api/**");
     }
 
     @Override
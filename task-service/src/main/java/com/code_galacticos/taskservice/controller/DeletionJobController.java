@@ -0,0 +1,52 @@
+package com.code_galacticos.taskservice.controller;
+
+import com.code_galacticos.taskservice.annotation.CurrentUser;
+import com.code_galacticos.taskservice.model.entity.DeletionJobEntity;
+import com.code_galacticos.taskservice.service.DeletionJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/deletion-jobs")
+@RequiredArgsConstructor
+@Tag(name = "Deletion Jobs", description = "APIs for following background deletions of projects and users")
+public class DeletionJobController {
+    private final DeletionJobService deletionJobService;
+
+    @Operation(
+            summary = "Get deletion job",
+            description = "Retrieves the status and progress of a background deletion"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Deletion job found",
+                    content = @Content(schema = @Schema(implementation = DeletionJobEntity.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Deletion job not found, or not started by the user nor on a project they owned"
+            )
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<DeletionJobEntity> getDeletionJob(
+            @Parameter(description = "Deletion job UUID", required = true)
+            @PathVariable UUID jobId,
+            @Parameter(description = "Current authenticated user")
+            @CurrentUser UUID userId) {
+        return ResponseEntity.ok(deletionJobService.getJob(jobId, userId));
+    }
+}
@@ -1,9 +1,15 @@
 package com.code_galacticos.taskservice.controller;
 
 import com.code_galacticos.taskservice.annotation.CurrentUser;
+import com.code_galacticos.taskservice.annotation.ProjectAccess;
+import com.code_galacticos.taskservice.model.dto.PageResponseDto;
+import com.code_galacticos.taskservice.model.dto.project.ProjectCloneDto;
+import com.code_galacticos.taskservice.model.dto.project.ProjectListItemDto;
+import com.code_galacticos.taskservice.model.dto.project.ProjectSummaryDto;
 import com.code_galacticos.taskservice.model.entity.ProjectEntity;
 import com.code_galacticos.taskservice.model.entity.UserEntity;
 import com.code_galacticos.taskservice.model.enums.ProjectStatus;
+import com.code_galacticos.taskservice.model.enums.UserRole;
 import com.code_galacticos.taskservice.service.ProjectService;
 import com.code_galacticos.taskservice.service.ProjectUserConnectionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,7 +25,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -56,6 +61,36 @@ public class ProjectController {
         return new ResponseEntity<>(createdProject, HttpStatus.CREATED);
     }
 
+    @Operation(
+            summary = "Clone project",
+            description = "Creates a new project from an existing one, copying its tasks and optionally its members"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Project cloned successfully",
+                    content = @Content(schema = @Schema(implementation = ProjectEntity.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Project not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @ProjectAccess
+    @PostMapping("/{projectId}/clone")
+    public ResponseEntity<ProjectEntity> cloneProject(
+            @Parameter(description = "UUID of the project to clone", required = true)
+            @PathVariable UUID projectId,
+            @Parameter(description = "Current authenticated user")
+            @CurrentUser UserEntity userEntity,
+            @Parameter(description = "Clone options")
+            @RequestBody(required = false) ProjectCloneDto cloneDto) {
+        ProjectEntity clonedProject = projectService.cloneProject(projectId,
+                cloneDto == null ? new ProjectCloneDto() : cloneDto, userEntity);
+        return new ResponseEntity<>(clonedProject, HttpStatus.CREATED);
+    }
+
     @Operation(
             summary = "Get project by ID",
             description = "Retrieves project details by its UUID"
@@ -72,6 +107,7 @@ public class ProjectController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
+    @ProjectAccess
     @GetMapping("/{projectId}")
     public ResponseEntity<ProjectEntity> getProject(
             @Parameter(description = "Project UUID", required = true)
@@ -81,15 +117,44 @@ public class ProjectController {
     }
 
     @Operation(
-            summary = "Get all user projects",
-            description = "Retrieves all projects associated with the current user"
+            summary = "Get project summary",
+            description = "Retrieves task counts by status and priority, overdue tasks, members by role and top assignees"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Project summary found",
+                    content = @Content(schema = @Schema(implementation = ProjectSummaryDto.class))
+            )
+    })
+    @ProjectAccess
+    @GetMapping("/{projectId}/summary")
+    public ResponseEntity<ProjectSummaryDto> getProjectSummary(
+            @Parameter(description = "Project UUID", required = true)
+            @PathVariable UUID projectId) {
+        return ResponseEntity.ok(projectService.getProjectSummary(projectId));
+    }
+
+    @Operation(
+            summary = "Get user projects",
+            description = "Retrieves a page of the current user's projects with their role, open task and member counts"
     )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Projects retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PageResponseDto.class))
+            )
+    })
     @GetMapping
-    public ResponseEntity<List<ProjectEntity>> getUserProjects(
+    public ResponseEntity<PageResponseDto<ProjectListItemDto>> getUserProjects(
             @Parameter(description = "Current authenticated user")
-            @CurrentUser UserEntity userEntity) {
-        List<ProjectEntity> projects = projectUserConnectionService.getAllProjectsForUser(userEntity.getId());
-        return ResponseEntity.ok(projects);
+            @CurrentUser UserEntity userEntity,
+            @Parameter(description = "Zero-based page number")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(projectUserConnectionService.getProjectsForUser(userEntity.getId(), page, size));
     }
 
     @Operation(
@@ -108,6 +173,7 @@ public class ProjectController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
+    @ProjectAccess(UserRole.TEAM_MANAGER)
     @PutMapping("/{projectId}")
     public ResponseEntity<ProjectEntity> updateProject(
             @Parameter(description = "Project UUID", required = true)
@@ -135,6 +201,7 @@ public class ProjectController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
+    @ProjectAccess(UserRole.TEAM_MANAGER)
     @PatchMapping("/{projectId}/status")
     public ResponseEntity<ProjectEntity> updateProjectStatus(
             @Parameter(description = "Project UUID", required = true)
@@ -146,7 +213,7 @@ public class ProjectController {
     }
     @Operation(
             summary = "Delete project",
-            description = "Deletes a project by its UUID"
+            description = "Deletes a project by its UUID, the owner can restore it until it is purged"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -159,6 +226,7 @@ public class ProjectController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
+    @ProjectAccess(UserRole.OWNER)
     @DeleteMapping("/{projectId}")
     public ResponseEntity<Void> deleteProject(
             @Parameter(description = "Project UUID", required = true)
@@ -166,4 +234,31 @@ public class ProjectController {
         projectService.deleteProject(projectId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // Not guarded by @ProjectAccess: the connections of a deleted project are deleted too,
+    // ownership is checked against them by the restore itself
+    @Operation(
+            summary = "Restore project",
+            description = "Restores a deleted project with its user connections, only its owner can restore it"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Project restored successfully",
+                    content = @Content(schema = @Schema(implementation = ProjectEntity.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Deleted project not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/{projectId}/restore")
+    public ResponseEntity<ProjectEntity> restoreProject(
+            @Parameter(description = "Project UUID", required = true)
+            @PathVariable UUID projectId,
+            @Parameter(description = "Current authenticated user")
+            @CurrentUser UserEntity userEntity) {
+        return ResponseEntity.ok(projectService.restoreProject(projectId, userEntity.getId()));
+    }
+}
@@ -1,8 +1,10 @@
 package com.code_galacticos.taskservice.controller;
 
+import com.code_galacticos.taskservice.annotation.ProjectAccess;
 import com.code_galacticos.taskservice.exception.ProjectNotFoundException;
 import com.code_galacticos.taskservice.exception.UserNotFoundException;
 import com.code_galacticos.taskservice.exception.UserProjectConnectionException;
+import com.code_galacticos.taskservice.model.dto.project.ProjectUserConnectionBatchResultDto;
 import com.code_galacticos.taskservice.model.dto.project.ProjectUserConnectionDto;
 import com.code_galacticos.taskservice.model.entity.ProjectEntity;
 import com.code_galacticos.taskservice.model.entity.UserEntity;
@@ -42,6 +44,7 @@ public class ProjectUserConnectionController {
      * @param request User connection details
      * @return Created or updated connection
      */
+    @ProjectAccess(UserRole.TEAM_MANAGER)
     @PostMapping("/{projectId}")
     public ResponseEntity<UserProjectConnection> createUserProjectConnection(
             @Parameter(description = "Project UUID", required = true)
@@ -53,6 +56,25 @@ public class ProjectUserConnectionController {
         return new ResponseEntity<>(connection, HttpStatus.CREATED);
     }
 
+    /**
+     * Create or update many user-project connections at once
+     *
+     * @param projectId Project UUID
+     * @param requests User connection details
+     * @return Outcome per email
+     */
+    @ProjectAccess(UserRole.TEAM_MANAGER)
+    @PostMapping("/{projectId}/batch")
+    public ResponseEntity<ProjectUserConnectionBatchResultDto> createUserProjectConnections(
+            @Parameter(description = "Project UUID", required = true)
+            @PathVariable UUID projectId,
+            @Parameter(description = "User connection details", required = true)
+            @RequestBody List<ProjectUserConnectionDto> requests) {
+        ProjectUserConnectionBatchResultDto result = projectUserConnectionService
+                .createProjectUserConnections(requests, projectId);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get all projects for a user
      *
@@ -73,6 +95,7 @@ public class ProjectUserConnectionController {
      * @param userId User UUID
      * @return User's role
      */
+    @ProjectAccess
     @GetMapping("{projectId}/{userId}")
     public ResponseEntity<UserRole> getUserRoleInProject(
             @Parameter(description = "Project UUID", required = true)
@@ -100,6 +123,7 @@ public class ProjectUserConnectionController {
                     description = "Project not found"
             )
     })
+    @ProjectAccess
     @GetMapping("/{projectId}")
     public ResponseEntity<List<UserEntity>> getProjectUsers(
             @Parameter(description = "Project UUID", required = true)
@@ -125,6 +149,7 @@ public class ProjectUserConnectionController {
                     description = "Project or user not found"
             )
     })
+    @ProjectAccess(UserRole.TEAM_MANAGER)
     @DeleteMapping("/{projectId}/users/{userId}")
     public ResponseEntity<Void> deleteUserFromProject(
             @Parameter(description = "Project UUID", required = true)
@@ -1,8 +1,19 @@
 package com.code_galacticos.taskservice.controller;
 
 import com.code_galacticos.taskservice.annotation.CurrentUser;
+import com.code_galacticos.taskservice.annotation.ProjectAccess;
+import com.code_galacticos.taskservice.cache.ProjectBoardSnapshot;
+import com.code_galacticos.taskservice.model.dto.CursorPageResponseDto;
+import com.code_galacticos.taskservice.model.dto.PageResponseDto;
+import com.code_galacticos.taskservice.model.dto.task.AssignedTaskDto;
+import com.code_galacticos.taskservice.model.dto.task.ProjectBoardDto;
+import com.code_galacticos.taskservice.model.dto.task.TaskSearchResultDto;
 import com.code_galacticos.taskservice.model.entity.TaskEntity;
 import com.code_galacticos.taskservice.model.entity.UserEntity;
+import com.code_galacticos.taskservice.model.enums.ExportFormat;
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+import com.code_galacticos.taskservice.service.TaskExportService;
 import com.code_galacticos.taskservice.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,10 +25,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,10 +46,12 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
 
     @Operation(
-            summary = "Get all tasks for a project",
-            description = "Retrieves all tasks associated with the specified project"
+            summary = "Get tasks for a project",
+            description = "Retrieves the open tasks of the specified project. Done and cancelled tasks are "
+                    + "only included on request."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -46,11 +66,145 @@ public class TaskController {
                     description = "Project not found"
             )
     })
+    @ProjectAccess
     @GetMapping("/project/{projectId}")
     public ResponseEntity<List<TaskEntity>> getAllTasks(
             @Parameter(description = "Project UUID", required = true)
-            @PathVariable UUID projectId) {
-        return ResponseEntity.ok(taskService.getAllTasks(projectId));
+            @PathVariable UUID projectId,
+            @Parameter(description = "Include done and cancelled tasks")
+            @RequestParam(defaultValue = "false") boolean includeClosed) {
+        return ResponseEntity.ok(taskService.getAllTasks(projectId, includeClosed));
+    }
+
+    @Operation(
+            summary = "Get the board of a project",
+            description = "Retrieves a page of the project's tasks filtered by status, priority and assignee, "
+                    + "with the number of tasks in each status. Served from an in-memory snapshot of the board."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the board",
+                    content = @Content(schema = @Schema(implementation = ProjectBoardDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown status, priority or sort order"
+            )
+    })
+    @ProjectAccess
+    @GetMapping("/project/{projectId}/board")
+    public ResponseEntity<ProjectBoardDto> getProjectBoard(
+            @Parameter(description = "Project UUID", required = true)
+            @PathVariable UUID projectId,
+            @Parameter(description = "Statuses to include, all by default")
+            @RequestParam(required = false) List<TaskStatus> status,
+            @Parameter(description = "Priorities to include, all by default")
+            @RequestParam(required = false) List<TaskPriority> priority,
+            @Parameter(description = "Only tasks assigned to this user")
+            @RequestParam(required = false) UUID assigneeId,
+            @Parameter(description = "Sort order: DEADLINE, PRIORITY or CREATED_AT")
+            @RequestParam(defaultValue = "DEADLINE") ProjectBoardSnapshot.Sort sort,
+            @Parameter(description = "Zero-based page number")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(taskService.getProjectBoard(projectId, status, priority, assigneeId, sort, page, size));
+    }
+
+    @Operation(
+            summary = "Export all tasks of a project",
+            description = "Streams the project's tasks as CSV or newline-delimited JSON while they are read, "
+                    + "so large projects can be exported without loading them into memory"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export started"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown export format"
+            )
+    })
+    @ProjectAccess
+    @GetMapping("/project/{projectId}/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Project UUID", required = true)
+            @PathVariable UUID projectId,
+            @Parameter(description = "Export format, csv or ndjson")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Only tasks created at or after this time, ISO date-time")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Only tasks created before this time, ISO date-time")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.fromName(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown export format: " + format);
+        }
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("tasks-" + projectId + "." + exportFormat.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(taskExportService.exportTasks(projectId, exportFormat, createdFrom, createdTo));
+    }
+
+    @Operation(
+            summary = "Get tasks assigned to me",
+            description = "Retrieves the current user's assigned tasks across all projects, sorted by deadline then "
+                    + "priority. Pass the returned cursor to get the next page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved tasks",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor"
+            )
+    })
+    @GetMapping("/assigned-to-me")
+    public ResponseEntity<CursorPageResponseDto<AssignedTaskDto>> getAssignedTasks(
+            @Parameter(description = "Current authenticated user")
+            @CurrentUser UserEntity userEntity,
+            @Parameter(description = "Statuses to include, all open statuses by default")
+            @RequestParam(required = false) List<TaskStatus> status,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(taskService.getAssignedTasks(userEntity.getId(), status, cursor, limit));
+    }
+
+    @Operation(
+            summary = "Search tasks",
+            description = "Searches task names and descriptions across all projects of the current user, "
+                    + "most relevant first. Words match as prefixes, small typos in task names are tolerated."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully searched tasks",
+                    content = @Content(schema = @Schema(implementation = PageResponseDto.class))
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<PageResponseDto<TaskSearchResultDto>> searchTasks(
+            @Parameter(description = "Current authenticated user")
+            @CurrentUser UserEntity userEntity,
+            @Parameter(description = "Search text", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Zero-based page number")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskService.searchTasks(userEntity.getId(), q, page, size));
     }
 
     @Operation(
@@ -72,6 +226,7 @@ public class TaskController {
                     description = "Project not found"
             )
     })
+    @ProjectAccess
     @PostMapping("/{projectId}")
     public ResponseEntity<TaskEntity> createTask(
             @Parameter(description = "Current authenticated user")
@@ -103,6 +258,7 @@ public class TaskController {
                     description = "Task not found"
             )
     })
+    @ProjectAccess(taskIdVariable = "taskId")
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskEntity> updateTask(
             @Parameter(description = "Task UUID", required = true)
@@ -127,6 +283,7 @@ public class TaskController {
                     description = "Task not found"
             )
     })
+    @ProjectAccess(taskIdVariable = "taskId")
     @GetMapping("/{taskId}")
     public ResponseEntity<TaskEntity> getTaskById(
             @Parameter(description = "Task UUID", required = true)
@@ -138,6 +295,7 @@ public class TaskController {
             summary = "Update task priority",
             description = "Updates the priority of an existing task"
     )
+    @ProjectAccess(taskIdVariable = "taskId")
     @PutMapping("/{taskId}/priority")
     public ResponseEntity<TaskEntity> updateTaskPriority(
             @Parameter(description = "Task UUID", required = true)
@@ -151,6 +309,7 @@ public class TaskController {
             summary = "Update task status",
             description = "Updates the status of an existing task"
     )
+    @ProjectAccess(taskIdVariable = "taskId")
     @PutMapping("/{taskId}/status")
     public ResponseEntity<TaskEntity> updateTaskStatus(
             @Parameter(description = "Task UUID", required = true)
@@ -164,6 +323,7 @@ public class TaskController {
             summary = "Update task assignee",
             description = "Updates the assignee of an existing task"
     )
+    @ProjectAccess(taskIdVariable = "taskId")
     @PutMapping("/{taskId}/assignee")
     public ResponseEntity<TaskEntity> updateTaskAssignee(
             @Parameter(description = "Task UUID", required = true)
@@ -172,4 +332,50 @@ public class TaskController {
             @Valid @RequestBody TaskEntity taskEntity) {
         return ResponseEntity.ok(taskService.updateTaskAssignee(taskId, taskEntity));
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Delete task",
+            description = "Deletes a task, it can be restored until it is purged"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Task deleted successfully"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Task not found"
+            )
+    })
+    @ProjectAccess(taskIdVariable = "taskId")
+    @DeleteMapping("/{taskId}")
+    public ResponseEntity<Void> deleteTask(
+            @Parameter(description = "Task UUID", required = true)
+            @PathVariable UUID taskId) {
+        taskService.deleteTask(taskId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Restore task",
+            description = "Restores a deleted task that was not purged yet"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Task restored successfully",
+                    content = @Content(schema = @Schema(implementation = TaskEntity.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Deleted task not found"
+            )
+    })
+    @ProjectAccess(taskIdVariable = "taskId")
+    @PostMapping("/{taskId}/restore")
+    public ResponseEntity<TaskEntity> restoreTask(
+            @Parameter(description = "Task UUID", required = true)
+            @PathVariable UUID taskId) {
+        return ResponseEntity.ok(taskService.restoreTask(taskId));
+    }
+}
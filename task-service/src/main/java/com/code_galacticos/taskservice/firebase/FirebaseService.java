@@ -8,6 +8,7 @@ import com.google.firebase.auth.UserRecord;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 @Service
@@ -22,7 +23,7 @@ public class FirebaseService {
             UserRecord userRecord = FirebaseAuth.getInstance().getUser(uid);
 
             return UserEntity.builder()
-                    .id(UUID.nameUUIDFromBytes(uid.getBytes()))
+                    .id(userId(uid))
                     .email(userRecord.getEmail())
                     .firstName(userRecord.getDisplayName() != null ?
                             userRecord.getDisplayName().split(" ")[0] : "")
@@ -40,4 +41,12 @@ public class FirebaseService {
             throw new RuntimeException("Invalid token");
         }
     }
+
+    /**
+     * Id of the user signed in with the given Firebase uid, a name based UUID of the uid. Users
+     * created by the bulk import derive theirs the same way in SQL.
+     */
+    public static UUID userId(String uid) {
+        return UUID.nameUUIDFromBytes(uid.getBytes(StandardCharsets.UTF_8));
+    }
 }
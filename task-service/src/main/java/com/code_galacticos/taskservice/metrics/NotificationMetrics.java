@@ -0,0 +1,64 @@
+package com.code_galacticos.taskservice.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Meters for the task-service half of the email notification pipeline.
+ * The notification-service continues the pipeline under the same {@code workhub.email} prefix.
+ */
+@Component
+public class NotificationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer publishSuccess;
+    private final Timer publishFailure;
+    private final Counter publishFailures;
+
+    public NotificationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.publishSuccess = publishTimer(meterRegistry, "success");
+        this.publishFailure = publishTimer(meterRegistry, "failure");
+        this.publishFailures = Counter.builder("workhub.email.publish.failures")
+                .description("Email notifications that could not be handed to RabbitMQ")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Times the rendering of one email template.
+     */
+    public <T> T recordRender(String template, Supplier<T> render) {
+        return Timer.builder("workhub.email.template.render")
+                .description("Time to render an email notification template")
+                .tag("template", template)
+                .register(meterRegistry)
+                .record(render);
+    }
+
+    /**
+     * Times a publish to RabbitMQ and counts it as a failure when it throws.
+     */
+    public void recordPublish(Runnable publish) {
+        long start = System.nanoTime();
+        try {
+            publish.run();
+            publishSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            publishFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            publishFailures.increment();
+            throw e;
+        }
+    }
+
+    private static Timer publishTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("workhub.email.publish")
+                .description("Time to publish an email notification to RabbitMQ")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.code_galacticos.taskservice.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    /**
+     * Opaque cursor to pass back for the next page, null on the last page.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,29 @@
+package com.code_galacticos.taskservice.model.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class PageResponseDto<T> {
+    private List<T> content;
+    /**
+     * Zero-based page number.
+     */
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public static <T> PageResponseDto<T> of(List<T> content, int page, int size, long totalElements) {
+        return PageResponseDto.<T>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages((int) ((totalElements + size - 1) / size))
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.code_galacticos.taskservice.model.dto.project;
+
+import lombok.Data;
+
+@Data
+public class ProjectCloneDto {
+    /**
+     * Defaults to the source project's name with a " (copy)" suffix.
+     */
+    private String name;
+    /**
+     * Defaults to the source project's description.
+     */
+    private String description;
+    /**
+     * Also copies the members and keeps the task assignees, the source owner joins as team manager.
+     */
+    private boolean includeMembers;
+}
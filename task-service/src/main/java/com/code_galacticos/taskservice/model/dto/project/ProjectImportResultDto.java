@@ -0,0 +1,18 @@
+package com.code_galacticos.taskservice.model.dto.project;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ProjectImportResultDto {
+    /**
+     * Users created from the users file, rows with an already registered email are skipped.
+     */
+    private long usersCreated;
+    /**
+     * Users newly added to the project, either listed in the members file or referenced by a task.
+     */
+    private long membersAdded;
+    private long tasksImported;
+}
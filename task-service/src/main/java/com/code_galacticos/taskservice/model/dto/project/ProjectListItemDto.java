@@ -0,0 +1,25 @@
+package com.code_galacticos.taskservice.model.dto.project;
+
+import com.code_galacticos.taskservice.model.enums.ProjectStatus;
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class ProjectListItemDto {
+    private UUID projectId;
+    private String name;
+    private ProjectStatus status;
+    /**
+     * Role of the requesting user in the project.
+     */
+    private UserRole role;
+    /**
+     * Tasks that are neither done nor cancelled.
+     */
+    private long openTaskCount;
+    private long memberCount;
+}
@@ -0,0 +1,43 @@
+package com.code_galacticos.taskservice.model.dto.project;
+
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+public class ProjectSummaryDto {
+    private long totalTasks;
+    /**
+     * Every status is present, with zero if the project has no such task.
+     */
+    private Map<TaskStatus, Long> tasksByStatus;
+    /**
+     * Every priority is present, with zero if the project has no such task.
+     */
+    private Map<TaskPriority, Long> tasksByPriority;
+    /**
+     * Tasks past their deadline that are neither done nor cancelled.
+     */
+    private long overdueTasks;
+    private Map<UserRole, Long> membersByRole;
+    /**
+     * Assignees with the most open tasks, highest first.
+     */
+    private List<AssigneeSummary> topAssignees;
+
+    @Data
+    @AllArgsConstructor
+    public static class AssigneeSummary {
+        private UUID userId;
+        private String name;
+        private long openTasks;
+    }
+}
@@ -0,0 +1,27 @@
+package com.code_galacticos.taskservice.model.dto.project;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ProjectUserConnectionBatchResultDto {
+    /**
+     * Users newly added to the project, each of them is sent an invitation email.
+     */
+    private List<String> addedEmails;
+    /**
+     * Existing members whose role was changed.
+     */
+    private List<String> updatedEmails;
+    /**
+     * Members left untouched because they own the project.
+     */
+    private List<String> unchangedEmails;
+    /**
+     * Emails without a registered user.
+     */
+    private List<String> unknownEmails;
+}
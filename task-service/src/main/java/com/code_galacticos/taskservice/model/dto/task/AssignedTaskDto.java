@@ -0,0 +1,21 @@
+package com.code_galacticos.taskservice.model.dto.task;
+
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class AssignedTaskDto {
+    private UUID taskId;
+    private String name;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDateTime deadline;
+    private UUID projectId;
+    private String projectName;
+}
@@ -0,0 +1,19 @@
+package com.code_galacticos.taskservice.model.dto.task;
+
+import com.code_galacticos.taskservice.model.dto.PageResponseDto;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class ProjectBoardDto {
+    /**
+     * Tasks matching the priority and assignee filters by status, regardless of the status filter.
+     * Every status is present, with zero if no task matches.
+     */
+    private Map<TaskStatus, Long> tasksByStatus;
+    private PageResponseDto<BoardTaskDto> tasks;
+}
@@ -0,0 +1,71 @@
+package com.code_galacticos.taskservice.model.entity;
+
+import com.code_galacticos.taskservice.model.entity.convertor.DeletionJobStatusConverter;
+import com.code_galacticos.taskservice.model.entity.convertor.DeletionTargetConverter;
+import com.code_galacticos.taskservice.model.entity.id.GeneratedUuidV7;
+import com.code_galacticos.taskservice.model.enums.DeletionJobStatus;
+import com.code_galacticos.taskservice.model.enums.DeletionTarget;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of the background deletion of a project or user. The counters are updated with every
+ * chunk, so a job picked up again after a restart continues where it stopped.
+ */
+@Data
+@Entity
+@Table(name = "deletion_job")
+public class DeletionJobEntity {
+    @Id
+    @GeneratedUuidV7
+    @Column(name = "deletion_job_uuid")
+    private UUID id;
+
+    @Convert(converter = DeletionTargetConverter.class)
+    @Column(name = "target_type", nullable = false)
+    private DeletionTarget targetType;
+
+    @Column(name = "target_uuid", nullable = false)
+    private UUID targetId;
+
+    @Convert(converter = DeletionJobStatusConverter.class)
+    @Column(name = "job_status", nullable = false)
+    private DeletionJobStatus status;
+
+    @Column(name = "tasks_processed", nullable = false)
+    private long tasksProcessed;
+
+    @Column(name = "connections_deleted", nullable = false)
+    private long connectionsDeleted;
+
+    @JsonIgnore
+    @Column(name = "requested_by")
+    private UUID requestedBy;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @JsonIgnore
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @JsonIgnore
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
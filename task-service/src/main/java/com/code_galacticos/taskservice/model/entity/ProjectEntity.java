@@ -1,10 +1,15 @@
 package com.code_galacticos.taskservice.model.entity;
 
+import com.code_galacticos.taskservice.config.EntityCacheConfig;
 import com.code_galacticos.taskservice.model.entity.convertor.ProjectStatusConverter;
+import com.code_galacticos.taskservice.model.entity.id.GeneratedUuidV7;
 import com.code_galacticos.taskservice.model.enums.ProjectStatus;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.UUID;
 
@@ -12,9 +17,11 @@ import java.util.UUID;
 @Data
 @Entity
 @Table(name = "project_table")
+@SQLRestriction("deleted_at IS NULL")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.PROJECT_REGION)
 public class ProjectEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "project_uuid")
     private UUID id;
 
@@ -2,12 +2,15 @@ package com.code_galacticos.taskservice.model.entity;
 
 import com.code_galacticos.taskservice.model.entity.convertor.TaskPriorityConverter;
 import com.code_galacticos.taskservice.model.entity.convertor.TaskStatusConverter;
+import com.code_galacticos.taskservice.model.entity.id.GeneratedUuidV7;
 import com.code_galacticos.taskservice.model.enums.TaskPriority;
 import com.code_galacticos.taskservice.model.enums.TaskStatus;
 import lombok.Data;
 import jakarta.persistence.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,9 +18,17 @@ import java.util.UUID;
 @Data
 @Entity
 @Table(name = "task_table")
+// The id is bound once and bounds created_at through the subquery, so only its partition is updated
+@SQLDelete(sql = """
+        UPDATE task_table SET deleted_at = LOCALTIMESTAMP
+        FROM (SELECT CAST(? AS UUID) AS id) AS deleted
+        WHERE task_uuid = deleted.id
+          AND created_at BETWEEN task_created_from(deleted.id) AND task_created_to(deleted.id)
+        """)
+@SQLRestriction("deleted_at IS NULL")
 public class TaskEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "task_uuid")
     private UUID id;
 
@@ -51,7 +62,7 @@ public class TaskEntity {
     @JoinColumn(name = "project_uuid")
     private ProjectEntity project;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
     public String getTaskDescription() {
@@ -1,10 +1,15 @@
 package com.code_galacticos.taskservice.model.entity;
 
+import com.code_galacticos.taskservice.config.EntityCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.UUID;
 
@@ -14,11 +19,14 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "user_table")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.USER_REGION)
+@NaturalIdCache(region = EntityCacheConfig.USER_EMAIL_REGION)
 public class UserEntity {
     @Id
     @Column(name = "user_uuid")
     private UUID id;
 
+    @NaturalId(mutable = true)
     @Column(name="email",nullable = false, unique = true)
     private String email;
 
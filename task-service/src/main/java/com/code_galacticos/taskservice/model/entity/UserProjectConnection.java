@@ -1,17 +1,23 @@
 package com.code_galacticos.taskservice.model.entity;
 
 import com.code_galacticos.taskservice.model.entity.convertor.UserRoleConverter;
+import com.code_galacticos.taskservice.model.entity.id.GeneratedUuidV7;
 import com.code_galacticos.taskservice.model.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.util.UUID;
 
 @Data
 @Entity
 @Table(name = "user_proj_connection")
+@SQLDelete(sql = "UPDATE user_proj_connection SET deleted_at = LOCALTIMESTAMP WHERE user_proj_con_uuid = ?")
+@SQLRestriction("deleted_at IS NULL")
 public class UserProjectConnection {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "user_proj_con_uuid")
     private UUID id;
 
@@ -0,0 +1,20 @@
+package com.code_galacticos.taskservice.model.entity.convertor;
+
+import com.code_galacticos.taskservice.model.enums.DeletionJobStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class DeletionJobStatusConverter implements AttributeConverter<DeletionJobStatus, String> {
+    @Override
+    public String convertToDatabaseColumn(DeletionJobStatus status) {
+        if (status == null) return null;
+        return status.name();
+    }
+
+    @Override
+    public DeletionJobStatus convertToEntityAttribute(String status) {
+        if (status == null) return null;
+        return DeletionJobStatus.valueOf(status);
+    }
+}
@@ -0,0 +1,20 @@
+package com.code_galacticos.taskservice.model.entity.convertor;
+
+import com.code_galacticos.taskservice.model.enums.DeletionTarget;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class DeletionTargetConverter implements AttributeConverter<DeletionTarget, String> {
+    @Override
+    public String convertToDatabaseColumn(DeletionTarget target) {
+        if (target == null) return null;
+        return target.name();
+    }
+
+    @Override
+    public DeletionTarget convertToEntityAttribute(String target) {
+        if (target == null) return null;
+        return DeletionTarget.valueOf(target);
+    }
+}
@@ -0,0 +1,18 @@
+package com.code_galacticos.taskservice.model.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated id as a time-ordered UUID, see {@link UuidV7}. Matches the
+ * {@code uuid_generate_v7()} column defaults used by inserts made in SQL.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GeneratedUuidV7 {
+}
@@ -0,0 +1,5 @@
+package com.code_galacticos.taskservice.model.enums;
+
+public enum DeletionJobStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -1,5 +1,9 @@
 package com.code_galacticos.taskservice.model.enums;
 
 public enum ProjectStatus {
-    ACTIVE, COMPLETED, ON_HOLD, CANCELLED
-}
\ No newline at end of file
+    ACTIVE, COMPLETED, ON_HOLD, CANCELLED,
+    /**
+     * Set on a deleted project once a deletion job purges its data, the project can no longer be restored.
+     */
+    DELETING
+}
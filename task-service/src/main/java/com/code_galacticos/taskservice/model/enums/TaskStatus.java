@@ -1,5 +1,15 @@
 package com.code_galacticos.taskservice.model.enums;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum TaskStatus {
-    TODO, IN_PROGRESS, DONE, IN_REVIEW, CANCELLED
+    TODO, IN_PROGRESS, DONE, IN_REVIEW, CANCELLED;
+
+    /**
+     * Statuses of tasks still being worked on. SQL on the open set should spell it as
+     * {@code task_status NOT IN ('DONE', 'CANCELLED')}, the predicate of the partial open-task indexes.
+     */
+    public static final Set<TaskStatus> OPEN = Collections.unmodifiableSet(EnumSet.of(TODO, IN_PROGRESS, IN_REVIEW));
 }
@@ -1,5 +1,12 @@
 package com.code_galacticos.taskservice.model.enums;
 
 public enum UserRole {
-    OWNER, TEAM_MANAGER, MEMBER
+    OWNER, TEAM_MANAGER, MEMBER;
+
+    /**
+     * Roles are declared from the most to the least privileged.
+     */
+    public boolean isAtLeast(UserRole required) {
+        return ordinal() <= required.ordinal();
+    }
 }
@@ -1,15 +1,29 @@
 package com.code_galacticos.taskservice.rabbit;
 
+import com.code_galacticos.taskservice.metrics.NotificationMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailNotificationSender {
+    private static final MessagePostProcessor STAMP_PUBLISHED_AT = amqpMessage -> {
+        amqpMessage.getMessageProperties().setHeader(RabbitMQConfig.PUBLISHED_AT_HEADER, System.currentTimeMillis());
+        return amqpMessage;
+    };
+
     private final RabbitTemplate rabbitTemplate;
+    private final NotificationMetrics notificationMetrics;
+
+    @Value("${notification.sharding.enabled:false}")
+    private boolean shardingEnabled;
 
     public void sendEmailNotification(EmailNotificationMessage message) {
         log.info("Sending email notification message to RabbitMQ: to={}, subject='{}'",
@@ -17,15 +31,50 @@ public class EmailNotificationSender {
                 message.getSubject());
 
         try {
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConfig.EXCHANGE_NAME,
-                    RabbitMQConfig.ROUTING_KEY,
-                    message
-            );
+            notificationMetrics.recordPublish(() -> publish(message));
             log.info("Successfully sent message to RabbitMQ");
         } catch (Exception e) {
             log.error("Failed to send message to RabbitMQ: {}", e.getMessage(), e);
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Publishes all messages over one channel instead of checking a channel out per message.
+     */
+    public void sendEmailNotifications(List<EmailNotificationMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        log.info("Sending {} email notification messages to RabbitMQ", messages.size());
+
+        try {
+            notificationMetrics.recordPublish(() -> rabbitTemplate.invoke(operations -> {
+                messages.forEach(this::publish);
+                return null;
+            }));
+            log.info("Successfully sent {} messages to RabbitMQ", messages.size());
+        } catch (Exception e) {
+            log.error("Failed to send messages to RabbitMQ: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private void publish(EmailNotificationMessage message) {
+        if (shardingEnabled) {
+            rabbitTemplate.convertAndSend(
+                    RabbitMQConfig.SHARDED_EXCHANGE_NAME,
+                    RabbitMQConfig.shardKey(message.getTo()),
+                    message,
+                    STAMP_PUBLISHED_AT
+            );
+        } else {
+            rabbitTemplate.convertAndSend(
+                    RabbitMQConfig.EXCHANGE_NAME,
+                    RabbitMQConfig.ROUTING_KEY,
+                    message,
+                    STAMP_PUBLISHED_AT
+            );
+        }
+    }
+}
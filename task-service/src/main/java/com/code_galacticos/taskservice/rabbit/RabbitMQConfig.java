@@ -7,15 +7,44 @@ import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
 @Configuration
 public class RabbitMQConfig {
     public static final String QUEUE_NAME = "email_notification_queue";
     public static final String EXCHANGE_NAME = "email_notification_exchange";
     public static final String ROUTING_KEY = "email_notification_routing_key";
 
+    /**
+     * Consistent-hash exchange used when sharding is enabled. Messages are routed by the
+     * recipient address, so all mail for one recipient lands on the same shard queue.
+     */
+    public static final String SHARDED_EXCHANGE_NAME = "email_notification_sharded_exchange";
+    public static final String SHARD_QUEUE_PREFIX = QUEUE_NAME + ".shard-";
+
+    /**
+     * Fanout exchange broadcasting cache invalidations between task-service instances, each bound
+     * with its own exclusive queue, see {@link com.code_galacticos.taskservice.cache.CacheInvalidationPublisher}.
+     */
+    public static final String CACHE_INVALIDATION_EXCHANGE_NAME = "task_cache_invalidation_exchange";
+
+    /**
+     * Epoch millis at which the message was published, used by the consumer to measure broker dwell time.
+     */
+    public static final String PUBLISHED_AT_HEADER = "x-published-at";
+
+    @Value("${notification.sharding.enabled:false}")
+    private boolean shardingEnabled;
+
+    @Value("${notification.sharding.shard-count:8}")
+    private int shardCount;
+
     @Bean
     public ConnectionFactory connectionFactory() {
         CachingConnectionFactory connectionFactory = new CachingConnectionFactory();
@@ -44,15 +73,73 @@ public class RabbitMQConfig {
                 .with(ROUTING_KEY);
     }
 
+    /**
+     * Declares the consistent-hash exchange and its shard queues. Must stay in sync with the
+     * notification-service declaration, both sides declare the same topology.
+     */
+    @Bean
+    public Declarables shardedEmailTopology() {
+        if (!shardingEnabled) {
+            return new Declarables();
+        }
+        CustomExchange exchange = new CustomExchange(SHARDED_EXCHANGE_NAME, "x-consistent-hash", true, false);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Queue queue = QueueBuilder.durable(shardQueueName(shard))
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            // For x-consistent-hash the binding key is the weight of the queue on the hash ring
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with("1").noargs());
+        }
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    public FanoutExchange cacheInvalidationExchange() {
+        return new FanoutExchange(CACHE_INVALIDATION_EXCHANGE_NAME);
+    }
+
+    /**
+     * Named per instance, deleted when the instance disconnects.
+     */
+    @Bean
+    public Queue cacheInvalidationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("task_cache_invalidation."));
+    }
+
+    @Bean
+    public Binding cacheInvalidationBinding() {
+        return BindingBuilder.bind(cacheInvalidationQueue()).to(cacheInvalidationExchange());
+    }
+
     @Bean
     public MessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
     }
 
+    /**
+     * Declared as a {@link RabbitTemplate} so that Boot backs off its own template, which is the one
+     * injected by type otherwise and does not propagate the trace to the notification-service.
+     */
     @Bean
-    public AmqpTemplate amqpTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter());
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
-}
\ No newline at end of file
+
+    public static String shardQueueName(int shard) {
+        return SHARD_QUEUE_PREFIX + shard;
+    }
+
+    /**
+     * Hash key for the consistent-hash exchange. Addresses are case-insensitive,
+     * so they are normalized to keep one mailbox on one shard.
+     */
+    public static String shardKey(String recipient) {
+        return recipient == null ? "" : recipient.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,125 @@
+package com.code_galacticos.taskservice.repository;
+
+import com.code_galacticos.taskservice.model.dto.task.AssignedTaskDto;
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tasks assigned to a user across all projects the user still belongs to, ordered by deadline
+ * (tasks without one last), then by priority from urgent to low. Pages are read with keyset
+ * pagination on that order, so a deep page costs as much as the first one.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssignedTaskRepository {
+    private static final String ASSIGNED_TASKS_SQL = """
+            SELECT t.task_uuid, t.task_name, CAST(t.task_status AS text) AS task_status,
+                   CAST(t.priority AS text) AS priority, t.deadline, p.project_uuid, p.project_name
+            FROM task_table t
+            JOIN project_table p ON p.project_uuid = t.project_uuid
+            WHERE t.assignation_uuid = ? AND t.deleted_at IS NULL
+              AND %s
+              AND p.deleted_at IS NULL
+              AND EXISTS (SELECT 1 FROM user_proj_connection c
+                          WHERE c.project_uuid = t.project_uuid AND c.user_uuid = t.assignation_uuid
+                            AND c.deleted_at IS NULL)
+              %s
+            ORDER BY COALESCE(t.deadline, 'infinity'), t.priority DESC, t.task_uuid
+            LIMIT ?
+            """;
+
+    private static final String STATUS_FILTER = "t.task_status = ANY (CAST(? AS task_status[]))";
+
+    /**
+     * Written as a literal so the planner can use idx_task_assignee_open, which is also in the sort order.
+     */
+    private static final String OPEN_STATUS_FILTER = "t.task_status NOT IN ('DONE', 'CANCELLED')";
+
+    private static final String AFTER_CURSOR = """
+            AND (COALESCE(t.deadline, 'infinity') > CAST(? AS timestamp)
+                   OR COALESCE(t.deadline, 'infinity') = CAST(? AS timestamp)
+                      AND (t.priority < CAST(? AS task_priority)
+                           OR t.priority = CAST(? AS task_priority) AND t.task_uuid > ?))""";
+
+    private static final String FIRST_PAGE_SQL = ASSIGNED_TASKS_SQL.formatted(STATUS_FILTER, "");
+    private static final String NEXT_PAGE_SQL = ASSIGNED_TASKS_SQL.formatted(STATUS_FILTER, AFTER_CURSOR);
+    private static final String OPEN_FIRST_PAGE_SQL = ASSIGNED_TASKS_SQL.formatted(OPEN_STATUS_FILTER, "");
+    private static final String OPEN_NEXT_PAGE_SQL = ASSIGNED_TASKS_SQL.formatted(OPEN_STATUS_FILTER, AFTER_CURSOR);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param after position of the last task of the previous page, null for the first page
+     */
+    public List<AssignedTaskDto> findAssignedTasks(UUID userId, Collection<TaskStatus> statuses, Cursor after, int limit) {
+        boolean openOnly = TaskStatus.OPEN.equals(Set.copyOf(statuses));
+        List<Object> args = new ArrayList<>(List.of(userId));
+        if (!openOnly) {
+            args.add(statuses.stream().map(Enum::name).toArray(String[]::new));
+        }
+        if (after != null) {
+            args.addAll(List.of(after.deadline(), after.deadline(), after.priority().name(), after.priority().name(), after.taskId()));
+        }
+        args.add(limit);
+        String sql = openOnly
+                ? (after == null ? OPEN_FIRST_PAGE_SQL : OPEN_NEXT_PAGE_SQL)
+                : (after == null ? FIRST_PAGE_SQL : NEXT_PAGE_SQL);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> AssignedTaskDto.builder()
+                .taskId(rs.getObject("task_uuid", UUID.class))
+                .name(rs.getString("task_name"))
+                .status(TaskStatus.valueOf(rs.getString("task_status")))
+                .priority(TaskPriority.valueOf(rs.getString("priority")))
+                .deadline(rs.getObject("deadline", LocalDateTime.class))
+                .projectId(rs.getObject("project_uuid", UUID.class))
+                .projectName(rs.getString("project_name"))
+                .build(), args.toArray());
+    }
+
+    /**
+     * Keyset position in the assigned tasks order. The deadline is kept as text, "infinity" for tasks without one.
+     */
+    public record Cursor(String deadline, TaskPriority priority, UUID taskId) {
+        private static final String NO_DEADLINE = "infinity";
+
+        public static Cursor after(AssignedTaskDto task) {
+            String deadline = task.getDeadline() == null ? NO_DEADLINE : task.getDeadline().toString();
+            return new Cursor(deadline, task.getPriority(), task.getTaskId());
+        }
+
+        public String encode() {
+            String raw = deadline + "|" + priority + "|" + taskId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @throws IllegalArgumentException if the cursor was not produced by {@link #encode()}
+         */
+        public static Cursor decode(String encoded) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Expected 3 parts");
+                }
+                if (!NO_DEADLINE.equals(parts[0])) {
+                    LocalDateTime.parse(parts[0]);
+                }
+                return new Cursor(parts[0], TaskPriority.valueOf(parts[1]), UUID.fromString(parts[2]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Malformed cursor: " + encoded, e);
+            }
+        }
+    }
+}
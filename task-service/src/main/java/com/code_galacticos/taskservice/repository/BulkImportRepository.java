@@ -0,0 +1,216 @@
+package com.code_galacticos.taskservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Loads CSV files into temporary staging tables with COPY FROM STDIN, then merges them into the
+ * real tables with one set-based statement each. Staging tables are dropped on commit, so every
+ * method must run inside the same transaction, starting with {@link #createStagingTables()}.
+ * <p>
+ * Users are matched by email and memberships by (project, user), existing rows are left as they are.
+ * New users get the id their Firebase uid signs in with, see {@link com.code_galacticos.taskservice.firebase.FirebaseService#userId(String)}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkImportRepository {
+    private static final String CREATE_STAGING_TABLES_SQL = """
+            CREATE TEMP TABLE import_user (
+                email TEXT, firebase_uid TEXT, first_name TEXT, last_name TEXT
+            ) ON COMMIT DROP;
+            CREATE TEMP TABLE import_member (
+                email TEXT, user_role TEXT
+            ) ON COMMIT DROP;
+            CREATE TEMP TABLE import_task (
+                task_name TEXT, task_description TEXT, task_status TEXT, priority TEXT, deadline TIMESTAMP,
+                assignee_email TEXT, reporter_email TEXT, created_at TIMESTAMP
+            ) ON COMMIT DROP;
+            """;
+
+    private static final String COPY_USERS_SQL =
+            "COPY import_user (email, firebase_uid, first_name, last_name) FROM STDIN WITH (FORMAT csv, HEADER true)";
+    private static final String COPY_MEMBERS_SQL =
+            "COPY import_member (email, user_role) FROM STDIN WITH (FORMAT csv, HEADER true)";
+    private static final String COPY_TASKS_SQL = """
+            COPY import_task (task_name, task_description, task_status, priority, deadline,
+                              assignee_email, reporter_email, created_at)
+            FROM STDIN WITH (FORMAT csv, HEADER true)""";
+
+    private static final String INVALID_USERS_SQL = """
+            SELECT count(*) FROM import_user
+            WHERE COALESCE(TRIM(email), '') = '' OR length(TRIM(email)) > 255
+               OR COALESCE(TRIM(firebase_uid), '') = '' OR length(TRIM(firebase_uid)) > 128
+               OR length(first_name) > 100 OR length(last_name) > 100
+            """;
+
+    /**
+     * The project owner is not imported, members can be team managers at most.
+     */
+    private static final String INVALID_MEMBERS_SQL = """
+            SELECT count(*) FROM import_member
+            WHERE COALESCE(TRIM(email), '') = ''
+               OR NULLIF(TRIM(user_role), '') NOT IN ('TEAM_MANAGER', 'MEMBER')
+            """;
+
+    private static final String INVALID_TASKS_SQL = """
+            SELECT count(*) FROM import_task
+            WHERE COALESCE(task_name, '') = '' OR length(task_name) > 255
+               OR NULLIF(TRIM(task_status), '') <> ALL (CAST(enum_range(NULL::task_status) AS text[]))
+               OR NULLIF(TRIM(priority), '') <> ALL (CAST(enum_range(NULL::task_priority) AS text[]))
+            """;
+
+    /**
+     * The id is the MD5 of the uid with the version and variant bits of a name based UUID, as
+     * {@link java.util.UUID#nameUUIDFromBytes(byte[])} computes it. A user whose email or id is
+     * already taken is skipped.
+     */
+    private static final String MERGE_USERS_SQL = """
+            INSERT INTO user_table (user_uuid, email, first_name, last_name)
+            SELECT CAST(overlay(overlay(hash PLACING '3' FROM 13)
+                                PLACING substr('89ab', (get_byte(decode(hash, 'hex'), 8) >> 4 & 3) + 1, 1) FROM 17)
+                        AS UUID),
+                   email, first_name, last_name
+            FROM (SELECT DISTINCT ON (TRIM(email)) TRIM(email) AS email, md5(TRIM(firebase_uid)) AS hash,
+                         COALESCE(first_name, '') AS first_name, COALESCE(last_name, '') AS last_name
+                  FROM import_user
+                  ORDER BY TRIM(email)) AS staged
+            ON CONFLICT DO NOTHING
+            """;
+
+    /**
+     * Members from the members file first, with their role, then everyone a task refers to as MEMBER.
+     * Emails without a user are skipped.
+     */
+    private static final String MERGE_MEMBERS_SQL = """
+            INSERT INTO user_proj_connection (project_uuid, user_uuid, user_role)
+            SELECT ?, u.user_uuid, CAST(staged.user_role AS user_role)
+            FROM (SELECT DISTINCT ON (email) email, user_role
+                  FROM (SELECT TRIM(email) AS email, COALESCE(NULLIF(TRIM(user_role), ''), 'MEMBER') AS user_role,
+                               0 AS source
+                        FROM import_member
+                        UNION ALL
+                        SELECT TRIM(assignee_email), 'MEMBER', 1 FROM import_task WHERE assignee_email IS NOT NULL
+                        UNION ALL
+                        SELECT TRIM(reporter_email), 'MEMBER', 1 FROM import_task WHERE reporter_email IS NOT NULL
+                       ) AS referenced
+                  ORDER BY email, source) AS staged
+            JOIN user_table u ON u.email = staged.email
+            ON CONFLICT (project_uuid, user_uuid) WHERE deleted_at IS NULL DO NOTHING
+            RETURNING user_uuid
+            """;
+
+    /**
+     * Ids are generated from the created_at of the task, which must lie within a day of the id time.
+     */
+    private static final String MERGE_TASKS_SQL = """
+            INSERT INTO task_table (task_uuid, task_name, task_description, task_status, priority, deadline,
+                                    assignation_uuid, reporter_uuid, project_uuid, created_at)
+            SELECT uuid_generate_v7(c.created_at), t.task_name, t.task_description,
+                   CAST(COALESCE(NULLIF(TRIM(t.task_status), ''), 'TODO') AS task_status),
+                   CAST(COALESCE(NULLIF(TRIM(t.priority), ''), 'MEDIUM') AS task_priority),
+                   t.deadline, a.user_uuid, r.user_uuid, ?, c.created_at
+            FROM import_task t
+            CROSS JOIN LATERAL (SELECT COALESCE(t.created_at, LOCALTIMESTAMP) AS created_at) AS c
+            LEFT JOIN user_table a ON a.email = TRIM(t.assignee_email)
+            LEFT JOIN user_table r ON r.email = TRIM(t.reporter_email)
+            """;
+
+    private static final String FIND_TASK_MONTHS_SQL = """
+            SELECT DISTINCT CAST(date_trunc('month', created_at) AS DATE) FROM import_task
+            WHERE created_at IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void createStagingTables() {
+        jdbcTemplate.execute(CREATE_STAGING_TABLES_SQL);
+    }
+
+    /**
+     * Columns: email, firebase_uid, first_name, last_name, with a header line.
+     *
+     * @return number of rows staged
+     */
+    public long stageUsers(Reader csv) {
+        return copyIn(COPY_USERS_SQL, csv);
+    }
+
+    /**
+     * Columns: email, user_role, with a header line.
+     *
+     * @return number of rows staged
+     */
+    public long stageMembers(Reader csv) {
+        return copyIn(COPY_MEMBERS_SQL, csv);
+    }
+
+    /**
+     * Columns: task_name, task_description, task_status, priority, deadline, assignee_email,
+     * reporter_email, created_at, with a header line.
+     *
+     * @return number of rows staged
+     */
+    public long stageTasks(Reader csv) {
+        return copyIn(COPY_TASKS_SQL, csv);
+    }
+
+    public long countInvalidUsers() {
+        return jdbcTemplate.queryForObject(INVALID_USERS_SQL, Long.class);
+    }
+
+    public long countInvalidMembers() {
+        return jdbcTemplate.queryForObject(INVALID_MEMBERS_SQL, Long.class);
+    }
+
+    public long countInvalidTasks() {
+        return jdbcTemplate.queryForObject(INVALID_TASKS_SQL, Long.class);
+    }
+
+    /**
+     * @return number of users created
+     */
+    public int mergeUsers() {
+        return jdbcTemplate.update(MERGE_USERS_SQL);
+    }
+
+    /**
+     * @return ids of the users added to the project
+     */
+    public List<UUID> mergeMembers(UUID projectId) {
+        return jdbcTemplate.queryForList(MERGE_MEMBERS_SQL, UUID.class, projectId);
+    }
+
+    /**
+     * @return first days of the months the staged tasks were created in, their partitions must exist before the merge
+     */
+    public List<LocalDate> findTaskMonths() {
+        return jdbcTemplate.queryForList(FIND_TASK_MONTHS_SQL, LocalDate.class);
+    }
+
+    /**
+     * @return number of tasks imported
+     */
+    public int mergeTasks(UUID projectId) {
+        return jdbcTemplate.update(MERGE_TASKS_SQL, projectId);
+    }
+
+    private long copyIn(String sql, Reader csv) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, csv);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
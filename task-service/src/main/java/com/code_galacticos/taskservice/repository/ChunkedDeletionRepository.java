@@ -0,0 +1,140 @@
+package com.code_galacticos.taskservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Statements behind the deletion jobs. Every chunk locks at most {@code limit} rows and skips rows
+ * locked by other transactions, so a running job never waits on, or blocks, regular writers for long.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChunkedDeletionRepository {
+    private static final String CLAIM_JOB_SQL = """
+            UPDATE deletion_job
+            SET job_status = 'RUNNING',
+                lease_owner = ?,
+                lease_expires_at = LOCALTIMESTAMP + ? * INTERVAL '1 millisecond',
+                updated_at = LOCALTIMESTAMP
+            WHERE deletion_job_uuid = (
+                SELECT deletion_job_uuid FROM deletion_job
+                WHERE job_status IN ('PENDING', 'RUNNING')
+                  AND (lease_expires_at IS NULL OR lease_expires_at < LOCALTIMESTAMP)
+                ORDER BY created_at
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED)
+            RETURNING deletion_job_uuid
+            """;
+
+    private static final String RECORD_PROGRESS_SQL = """
+            UPDATE deletion_job
+            SET tasks_processed = tasks_processed + ?,
+                connections_deleted = connections_deleted + ?,
+                lease_expires_at = LOCALTIMESTAMP + ? * INTERVAL '1 millisecond',
+                updated_at = LOCALTIMESTAMP
+            WHERE deletion_job_uuid = ? AND lease_owner = ?
+            """;
+
+    private static final String COMPLETE_JOB_SQL = """
+            UPDATE deletion_job
+            SET job_status = 'COMPLETED', lease_owner = NULL, lease_expires_at = NULL,
+                completed_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP
+            WHERE deletion_job_uuid = ? AND lease_owner = ?
+            """;
+
+    private static final String FAIL_ATTEMPT_SQL = """
+            UPDATE deletion_job
+            SET attempts = attempts + 1,
+                job_status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE 'RUNNING' END::deletion_job_status,
+                last_error = ?, lease_owner = NULL, lease_expires_at = NULL, updated_at = LOCALTIMESTAMP
+            WHERE deletion_job_uuid = ? AND lease_owner = ?
+            """;
+
+    private static final String DELETE_PROJECT_TASKS_SQL = """
+            DELETE FROM task_table WHERE task_uuid IN (
+                SELECT task_uuid FROM task_table WHERE project_uuid = ? LIMIT ? FOR UPDATE SKIP LOCKED)
+            """;
+
+    private static final String DELETE_PROJECT_CONNECTIONS_SQL = """
+            DELETE FROM user_proj_connection WHERE user_proj_con_uuid IN (
+                SELECT user_proj_con_uuid FROM user_proj_connection WHERE project_uuid = ? LIMIT ? FOR UPDATE SKIP LOCKED)
+            """;
+
+    private static final String DETACH_USER_TASKS_SQL = """
+            UPDATE task_table
+            SET assignation_uuid = NULLIF(assignation_uuid, ?),
+                reporter_uuid = NULLIF(reporter_uuid, ?)
+            WHERE task_uuid IN (
+                SELECT task_uuid FROM task_table WHERE assignation_uuid = ? OR reporter_uuid = ?
+                LIMIT ? FOR UPDATE SKIP LOCKED)
+            """;
+
+    private static final String DELETE_USER_CONNECTIONS_SQL = """
+            DELETE FROM user_proj_connection WHERE user_proj_con_uuid IN (
+                SELECT user_proj_con_uuid FROM user_proj_connection WHERE user_uuid = ? LIMIT ? FOR UPDATE SKIP LOCKED)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Leases the oldest job that is pending or whose previous lease expired, e.g. because the
+     * instance running it was stopped.
+     */
+    public Optional<UUID> claimNextJob(String leaseOwner, long leaseMillis) {
+        List<UUID> claimed = jdbcTemplate.queryForList(CLAIM_JOB_SQL, UUID.class, leaseOwner, leaseMillis);
+        return claimed.stream().findFirst();
+    }
+
+    /**
+     * Adds the chunk's counts and extends the lease.
+     *
+     * @return false if the lease was lost to another instance
+     */
+    public boolean recordProgress(UUID jobId, String leaseOwner, long tasks, long connections, long leaseMillis) {
+        return jdbcTemplate.update(RECORD_PROGRESS_SQL, tasks, connections, leaseMillis, jobId, leaseOwner) == 1;
+    }
+
+    public void completeJob(UUID jobId, String leaseOwner) {
+        jdbcTemplate.update(COMPLETE_JOB_SQL, jobId, leaseOwner);
+    }
+
+    /**
+     * Releases the lease so the job is retried, or marks it failed once it ran out of attempts.
+     */
+    public void failAttempt(UUID jobId, String leaseOwner, String error, int maxAttempts) {
+        jdbcTemplate.update(FAIL_ATTEMPT_SQL, maxAttempts, error, jobId, leaseOwner);
+    }
+
+    public int deleteProjectTasks(UUID projectId, int limit) {
+        return jdbcTemplate.update(DELETE_PROJECT_TASKS_SQL, projectId, limit);
+    }
+
+    public int deleteProjectConnections(UUID projectId, int limit) {
+        return jdbcTemplate.update(DELETE_PROJECT_CONNECTIONS_SQL, projectId, limit);
+    }
+
+    public int detachUserTasks(UUID userId, int limit) {
+        return jdbcTemplate.update(DETACH_USER_TASKS_SQL, userId, userId, userId, userId, limit);
+    }
+
+    public int deleteUserConnections(UUID userId, int limit) {
+        return jdbcTemplate.update(DELETE_USER_CONNECTIONS_SQL, userId, limit);
+    }
+
+    /**
+     * Deletes the project row itself. Rows skipped by the chunks because they were locked are
+     * removed by the ON DELETE CASCADE of this statement.
+     */
+    public int deleteProject(UUID projectId) {
+        return jdbcTemplate.update("DELETE FROM project_table WHERE project_uuid = ?", projectId);
+    }
+
+    public int deleteUser(UUID userId) {
+        return jdbcTemplate.update("DELETE FROM user_table WHERE user_uuid = ?", userId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.code_galacticos.taskservice.repository;
+
+import com.code_galacticos.taskservice.model.entity.DeletionJobEntity;
+import com.code_galacticos.taskservice.model.enums.DeletionJobStatus;
+import com.code_galacticos.taskservice.model.enums.DeletionTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DeletionJobRepository extends JpaRepository<DeletionJobEntity, UUID> {
+    Optional<DeletionJobEntity> findFirstByTargetTypeAndTargetIdAndStatusIn(DeletionTarget targetType,
+                                                                             UUID targetId,
+                                                                             Collection<DeletionJobStatus> statuses);
+}
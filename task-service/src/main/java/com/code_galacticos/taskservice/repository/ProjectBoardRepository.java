@@ -0,0 +1,43 @@
+package com.code_galacticos.taskservice.repository;
+
+import com.code_galacticos.taskservice.cache.ProjectBoardSnapshot;
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reads the board columns of a project's tasks straight into a {@link ProjectBoardSnapshot},
+ * without building entities.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectBoardRepository {
+    private static final String BOARD_SQL = """
+            SELECT task_uuid, task_name, CAST(task_status AS text) AS task_status, CAST(priority AS text) AS priority,
+                   deadline, assignation_uuid, created_at
+            FROM task_table
+            WHERE project_uuid = ? AND deleted_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectBoardSnapshot loadBoard(UUID projectId) {
+        ProjectBoardSnapshot.Builder builder = new ProjectBoardSnapshot.Builder();
+        jdbcTemplate.query(BOARD_SQL, rs -> {
+            builder.add(new ProjectBoardSnapshot.Row(
+                    rs.getObject("task_uuid", UUID.class),
+                    rs.getString("task_name"),
+                    TaskStatus.valueOf(rs.getString("task_status")),
+                    TaskPriority.valueOf(rs.getString("priority")),
+                    rs.getObject("deadline", LocalDateTime.class),
+                    rs.getObject("assignation_uuid", UUID.class),
+                    rs.getObject("created_at", LocalDateTime.class)));
+        }, projectId);
+        return builder.build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.code_galacticos.taskservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Copies a project inside the database, one set-based statement per table, so cloning a template
+ * with hundreds of tasks costs a few round trips instead of one per task.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectCloneRepository {
+    private static final String CLONE_PROJECT_SQL = """
+            INSERT INTO project_table (project_uuid, project_name, project_status, project_description)
+            SELECT ?, COALESCE(?, project_name || ' (copy)'), 'ACTIVE', COALESCE(?, project_description)
+            FROM project_table
+            WHERE project_uuid = ? AND deleted_at IS NULL
+            """;
+
+    /**
+     * Copies start over as TODO, reported by the user cloning the project. Assignees are kept only
+     * together with the members, otherwise they would point at users outside the project.
+     */
+    private static final String CLONE_TASKS_SQL = """
+            INSERT INTO task_table (task_name, task_description, task_status, priority, deadline,
+                                    assignation_uuid, reporter_uuid, project_uuid)
+            SELECT task_name, task_description, 'TODO', priority, deadline,
+                   CASE WHEN ? THEN assignation_uuid END, ?, ?
+            FROM task_table
+            WHERE project_uuid = ? AND deleted_at IS NULL
+            """;
+
+    private static final String ADD_OWNER_SQL = """
+            INSERT INTO user_proj_connection (project_uuid, user_uuid, user_role)
+            VALUES (?, ?, 'OWNER')
+            """;
+
+    private static final String CLONE_MEMBERS_SQL = """
+            INSERT INTO user_proj_connection (project_uuid, user_uuid, user_role)
+            SELECT ?, user_uuid,
+                   CASE WHEN user_role = 'OWNER' THEN CAST('TEAM_MANAGER' AS user_role) ELSE user_role END
+            FROM user_proj_connection
+            WHERE project_uuid = ? AND deleted_at IS NULL AND user_uuid <> ?
+            RETURNING user_uuid
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return false if there is no live source project
+     */
+    public boolean cloneProject(UUID sourceProjectId, UUID projectId, String name, String description) {
+        return jdbcTemplate.update(CLONE_PROJECT_SQL, projectId, name, description, sourceProjectId) == 1;
+    }
+
+    /**
+     * @return the number of tasks copied
+     */
+    public int cloneTasks(UUID sourceProjectId, UUID projectId, UUID reporterId, boolean keepAssignees) {
+        return jdbcTemplate.update(CLONE_TASKS_SQL, keepAssignees, reporterId, projectId, sourceProjectId);
+    }
+
+    public void addOwner(UUID projectId, UUID ownerId) {
+        jdbcTemplate.update(ADD_OWNER_SQL, projectId, ownerId);
+    }
+
+    /**
+     * Copies every member except the new owner, the source owner becomes a team manager.
+     *
+     * @return the copied members
+     */
+    public List<UUID> cloneMembers(UUID sourceProjectId, UUID projectId, UUID ownerId) {
+        return jdbcTemplate.queryForList(CLONE_MEMBERS_SQL, UUID.class, projectId, sourceProjectId, ownerId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.code_galacticos.taskservice.repository;
+
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ProjectConnectionBatchRepository {
+    /**
+     * Upserts all connections in one statement. The owner's role is never overwritten, such rows
+     * are not returned. {@code xmax = 0} holds only for rows inserted by this statement. The conflict
+     * target names the predicate of the partial unique index, removed connections do not conflict.
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO user_proj_connection (project_uuid, user_uuid, user_role)
+            SELECT ?, member.user_uuid, CAST(member.user_role AS user_role)
+            FROM unnest(CAST(? AS uuid[]), CAST(? AS text[])) AS member(user_uuid, user_role)
+            ON CONFLICT (project_uuid, user_uuid) WHERE deleted_at IS NULL DO UPDATE
+                SET user_role = EXCLUDED.user_role
+                WHERE user_proj_connection.user_role <> 'OWNER'
+            RETURNING user_uuid, (xmax = 0) AS inserted
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return for every inserted or updated connection, the user id mapped to {@code true} if it was inserted
+     */
+    public Map<UUID, Boolean> upsertConnections(UUID projectId, Map<UUID, UserRole> rolesByUser) {
+        UUID[] userIds = rolesByUser.keySet().toArray(new UUID[0]);
+        String[] roles = new String[userIds.length];
+        for (int i = 0; i < userIds.length; i++) {
+            roles[i] = rolesByUser.get(userIds[i]).name();
+        }
+        Map<UUID, Boolean> result = new HashMap<>();
+        jdbcTemplate.query(UPSERT_SQL,
+                ps -> {
+                    ps.setObject(1, projectId);
+                    ps.setArray(2, ps.getConnection().createArrayOf("uuid", userIds));
+                    ps.setArray(3, ps.getConnection().createArrayOf("text", roles));
+                },
+                rs -> {
+                    result.put(rs.getObject("user_uuid", UUID.class), rs.getBoolean("inserted"));
+                });
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package com.code_galacticos.taskservice.repository;
+
+import com.code_galacticos.taskservice.model.dto.project.ProjectSummaryDto;
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ProjectSummaryRepository {
+    /**
+     * All dashboard numbers in one round trip: each branch of the UNION ALL is one group of counters,
+     * told apart by the kind column. The project's tasks are scanned once through the CTE.
+     */
+    private static final String SUMMARY_SQL = """
+            WITH live_task AS MATERIALIZED (
+                SELECT task_status, priority, deadline, assignation_uuid,
+                       task_status NOT IN ('DONE', 'CANCELLED') AS open
+                FROM task_table
+                WHERE project_uuid = ? AND deleted_at IS NULL)
+            SELECT 'STATUS' AS kind, CAST(task_status AS text) AS item, NULL AS label, count(*) AS total
+            FROM live_task GROUP BY task_status
+            UNION ALL
+            SELECT 'PRIORITY', CAST(priority AS text), NULL, count(*)
+            FROM live_task GROUP BY priority
+            UNION ALL
+            SELECT 'OVERDUE', NULL, NULL, count(*)
+            FROM live_task WHERE open AND deadline < LOCALTIMESTAMP
+            UNION ALL
+            SELECT 'ROLE', CAST(user_role AS text), NULL, count(*)
+            FROM user_proj_connection WHERE project_uuid = ? AND deleted_at IS NULL GROUP BY user_role
+            UNION ALL
+            (SELECT 'ASSIGNEE', CAST(t.assignation_uuid AS text), u.first_name || ' ' || u.last_name, count(*)
+             FROM live_task t JOIN user_table u ON u.user_uuid = t.assignation_uuid
+             WHERE t.open
+             GROUP BY t.assignation_uuid, u.first_name, u.last_name
+             ORDER BY count(*) DESC, t.assignation_uuid
+             LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectSummaryDto loadSummary(UUID projectId, int topAssignees) {
+        Map<TaskStatus, Long> byStatus = zeroCounts(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = zeroCounts(TaskPriority.class);
+        Map<UserRole, Long> byRole = zeroCounts(UserRole.class);
+        List<ProjectSummaryDto.AssigneeSummary> assignees = new ArrayList<>();
+        long[] overdue = new long[1];
+
+        jdbcTemplate.query(SUMMARY_SQL, rs -> {
+            String item = rs.getString("item");
+            long total = rs.getLong("total");
+            switch (rs.getString("kind")) {
+                case "STATUS" -> byStatus.put(TaskStatus.valueOf(item), total);
+                case "PRIORITY" -> byPriority.put(TaskPriority.valueOf(item), total);
+                case "OVERDUE" -> overdue[0] = total;
+                case "ROLE" -> byRole.put(UserRole.valueOf(item), total);
+                case "ASSIGNEE" -> assignees.add(new ProjectSummaryDto.AssigneeSummary(
+                        UUID.fromString(item), rs.getString("label"), total));
+                default -> throw new IllegalStateException("Unknown summary row " + rs.getString("kind"));
+            }
+        }, projectId, projectId, topAssignees);
+
+        return ProjectSummaryDto.builder()
+                .totalTasks(byStatus.values().stream().mapToLong(Long::longValue).sum())
+                .tasksByStatus(byStatus)
+                .tasksByPriority(byPriority)
+                .overdueTasks(overdue[0])
+                .membersByRole(byRole)
+                .topAssignees(assignees)
+                .build();
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            counts.put(constant, 0L);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,78 @@
+package com.code_galacticos.taskservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads all live tasks of a project through a forward-only cursor, handing each row to the
+ * caller as soon as it is fetched. The PostgreSQL driver only fetches in batches of the fetch
+ * size when autocommit is off, so this must be called inside a transaction, otherwise the
+ * whole result is loaded into memory at once.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskExportRepository {
+    private static final String EXPORT_SQL = """
+            SELECT t.task_uuid, t.task_name, t.task_description,
+                   CAST(t.task_status AS text) AS task_status, CAST(t.priority AS text) AS priority,
+                   t.deadline, t.created_at, a.email AS assignee_email, r.email AS reporter_email
+            FROM task_table t
+            LEFT JOIN user_table a ON a.user_uuid = t.assignation_uuid
+            LEFT JOIN user_table r ON r.user_uuid = t.reporter_uuid
+            WHERE t.project_uuid = ? AND t.deleted_at IS NULL
+              AND t.created_at >= COALESCE(CAST(? AS TIMESTAMP), '-infinity')
+              AND t.created_at < COALESCE(CAST(? AS TIMESTAMP), 'infinity')
+            ORDER BY t.created_at, t.task_uuid
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${task.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Bounds on {@code created_at} are applied when the statement executes, so PostgreSQL only scans
+     * the partitions of the requested months.
+     */
+    public void streamProjectTasks(UUID projectId, CreatedRange created, Consumer<ExportedTask> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, projectId);
+            statement.setObject(2, created.from());
+            statement.setObject(3, created.to());
+            return statement;
+        }, rs -> {
+            consumer.accept(new ExportedTask(
+                    rs.getObject("task_uuid", UUID.class),
+                    rs.getString("task_name"),
+                    rs.getString("task_description"),
+                    rs.getString("task_status"),
+                    rs.getString("priority"),
+                    rs.getObject("deadline", LocalDateTime.class),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getString("assignee_email"),
+                    rs.getString("reporter_email")));
+        });
+    }
+
+    /**
+     * Half-open range of creation times, either bound may be null.
+     */
+    public record CreatedRange(LocalDateTime from, LocalDateTime to) {
+    }
+
+    public record ExportedTask(UUID taskId, String name, String description, String status, String priority,
+                               LocalDateTime deadline, LocalDateTime createdAt,
+                               String assigneeEmail, String reporterEmail) {
+    }
+}
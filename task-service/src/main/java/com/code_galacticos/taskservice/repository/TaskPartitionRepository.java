@@ -0,0 +1,86 @@
+package com.code_galacticos.taskservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DDL on the monthly partitions of {@code task_table}, named {@code task_table_pYYYYMM}.
+ * Statements run in autocommit, {@code DETACH PARTITION ... CONCURRENTLY} is not allowed in a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskPartitionRepository {
+    public static final String ARCHIVE_SCHEMA = "task_archive";
+
+    private static final String SET_LOCK_TIMEOUT_SQL = "SELECT set_config('lock_timeout', ?, true)";
+    private static final String ENSURE_PARTITION_SQL = "SELECT ensure_task_partition(?)";
+
+    /**
+     * Attached partitions whose whole month lies before the cutoff, oldest first. A month can be created
+     * again after it was archived, by an import, it then stays attached rather than clash with the archive.
+     */
+    private static final String FIND_PARTITIONS_BEFORE_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = CAST('public.task_table' AS regclass)
+              AND NOT i.inhdetachpending
+              AND c.relname ~ '^task_table_p[0-9]{6}$'
+              AND to_date(substr(c.relname, 13), 'YYYYMM') + INTERVAL '1 month' <= ?
+              AND to_regclass('task_archive.' || c.relname) IS NULL
+            ORDER BY c.relname
+            """;
+
+    private static final String HAS_OPEN_TASKS_SQL = """
+            SELECT EXISTS (SELECT 1 FROM public.%s
+                           WHERE deleted_at IS NULL AND task_status NOT IN ('DONE', 'CANCELLED'))
+            """;
+
+    private static final String FIND_INDEXES_SQL = """
+            SELECT CAST(indexrelid AS regclass)::text FROM pg_index
+            WHERE indrelid = CAST(? AS regclass)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creating a partition locks {@code task_table} exclusively. The lock timeout keeps it from queueing
+     * behind long transactions, such as exports, and blocking every query on tasks meanwhile.
+     * Must run in a transaction, the timeout applies to it only.
+     *
+     * @return false if the partition of that month already exists
+     */
+    public boolean ensurePartition(LocalDate month, long lockTimeoutMillis) {
+        jdbcTemplate.queryForObject(SET_LOCK_TIMEOUT_SQL, String.class, lockTimeoutMillis + "ms");
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(ENSURE_PARTITION_SQL, Boolean.class, month));
+    }
+
+    public List<String> findPartitionsBefore(LocalDate cutoff) {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_BEFORE_SQL, String.class, cutoff);
+    }
+
+    public boolean hasOpenTasks(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_OPEN_TASKS_SQL.formatted(partition), Boolean.class));
+    }
+
+    /**
+     * Detaches the partition without blocking reads and writes on {@code task_table}, then moves it
+     * to the archive schema and, if given, to the archive tablespace. The archived table keeps its
+     * rows and indexes and can be attached again.
+     */
+    public void archivePartition(String partition, String tablespace) {
+        jdbcTemplate.execute("ALTER TABLE public.task_table DETACH PARTITION public.%s CONCURRENTLY".formatted(partition));
+        jdbcTemplate.execute("ALTER TABLE public.%s SET SCHEMA %s".formatted(partition, ARCHIVE_SCHEMA));
+        if (!tablespace.isBlank()) {
+            String table = ARCHIVE_SCHEMA + "." + partition;
+            jdbcTemplate.execute("ALTER TABLE %s SET TABLESPACE \"%s\"".formatted(table, tablespace));
+            for (String index : jdbcTemplate.queryForList(FIND_INDEXES_SQL, String.class, table)) {
+                jdbcTemplate.execute("ALTER INDEX %s SET TABLESPACE \"%s\"".formatted(index, tablespace));
+            }
+        }
+    }
+}
@@ -8,13 +8,47 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
+    /**
+     * Bounded by the creation time the id allows, so only the partition of the task is read, see
+     * {@code task_created_from} in V12.
+     */
+    @Override
+    @Query(value = """
+            SELECT * FROM task_table
+            WHERE task_uuid = :id AND deleted_at IS NULL
+              AND created_at BETWEEN task_created_from(:id) AND task_created_to(:id)
+            """, nativeQuery = true)
+    Optional<TaskEntity> findById(@Param("id") UUID id);
+
     List<TaskEntity> findAllByProjectId(UUID projectId);
 
+    /**
+     * Tasks of the project that are not done or cancelled, served by the partial idx_task_project_open.
+     * Not bounded by created_at, open tasks can be of any age; on closed months the partial index is
+     * almost empty, so each partition costs one short probe.
+     */
+    @Query(value = """
+            SELECT * FROM task_table
+            WHERE project_uuid = :projectId AND deleted_at IS NULL
+              AND task_status NOT IN ('DONE', 'CANCELLED')
+            """, nativeQuery = true)
+    List<TaskEntity> findOpenByProjectId(@Param("projectId") UUID projectId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM TaskEntity t WHERE t.project.id = :projectId")
     void deleteAllByProjectId(@Param("projectId") UUID projectId);
+
+    /**
+     * Also resolves deleted tasks, so access to restoring them is checked against their project.
+     */
+    @Query(value = """
+            SELECT project_uuid FROM task_table
+            WHERE task_uuid = :taskId AND created_at BETWEEN task_created_from(:taskId) AND task_created_to(:taskId)
+            """, nativeQuery = true)
+    Optional<UUID> findProjectIdById(@Param("taskId") UUID taskId);
 }
\ No newline at end of file
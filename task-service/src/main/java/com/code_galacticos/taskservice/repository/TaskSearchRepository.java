@@ -0,0 +1,69 @@
+package com.code_galacticos.taskservice.repository;
+
+import com.code_galacticos.taskservice.model.dto.PageResponseDto;
+import com.code_galacticos.taskservice.model.dto.task.TaskSearchResultDto;
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Searches the live tasks of every project a user belongs to. A task matches when all words of the
+ * query are prefixes of words in its name or description (GIN index on the generated
+ * search_vector column), or when the query is close to a word of its name, which catches typos
+ * (trigram GIN index). Matches in the name weigh more than matches in the description.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskSearchRepository {
+    private static final String SEARCH_SQL = """
+            SELECT t.task_uuid, t.task_name, CAST(t.task_status AS text) AS task_status,
+                   CAST(t.priority AS text) AS priority, t.deadline, p.project_uuid, p.project_name,
+                   ts_rank(t.search_vector, to_tsquery('simple', ?)) + word_similarity(?, t.task_name) AS rank,
+                   count(*) OVER () AS total
+            FROM task_table t
+            JOIN user_proj_connection c ON c.project_uuid = t.project_uuid
+            JOIN project_table p ON p.project_uuid = t.project_uuid
+            WHERE c.user_uuid = ? AND c.deleted_at IS NULL
+              AND p.deleted_at IS NULL
+              AND t.deleted_at IS NULL
+              AND (t.search_vector @@ to_tsquery('simple', ?) OR ? <% t.task_name)
+            ORDER BY rank DESC, t.task_uuid
+            LIMIT ? OFFSET ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param words the query split into words, each must only contain letters and digits
+     * @return the page of matches; past the last page the total is reported as 0
+     */
+    public PageResponseDto<TaskSearchResultDto> search(UUID userId, List<String> words, int page, int size) {
+        // Every word as a prefix, all of them required: "depl data" becomes "depl:* & data:*"
+        String prefixQuery = String.join(" & ", words.stream().map(word -> word + ":*").toList());
+        String term = String.join(" ", words);
+
+        List<TaskSearchResultDto> content = new ArrayList<>();
+        long[] total = {0};
+        jdbcTemplate.query(SEARCH_SQL, rs -> {
+            total[0] = rs.getLong("total");
+            content.add(TaskSearchResultDto.builder()
+                    .taskId(rs.getObject("task_uuid", UUID.class))
+                    .name(rs.getString("task_name"))
+                    .status(TaskStatus.valueOf(rs.getString("task_status")))
+                    .priority(TaskPriority.valueOf(rs.getString("priority")))
+                    .deadline(rs.getObject("deadline", LocalDateTime.class))
+                    .projectId(rs.getObject("project_uuid", UUID.class))
+                    .projectName(rs.getString("project_name"))
+                    .rank(rs.getDouble("rank"))
+                    .build());
+        }, prefixQuery, term, userId, prefixQuery, term, size, (long) page * size);
+        return PageResponseDto.of(content, page, size, total[0]);
+    }
+}
@@ -0,0 +1,148 @@
+package com.code_galacticos.taskservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Statements on soft-deleted rows, which the entity mappings filter out. A deleted project and the
+ * connections removed with it share the same {@code deleted_at}, so a restore brings back exactly
+ * those connections and not the ones removed earlier.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TombstoneRepository {
+    private static final String SOFT_DELETE_PROJECT_SQL = """
+            WITH tombstone AS (
+                UPDATE project_table SET deleted_at = LOCALTIMESTAMP
+                WHERE project_uuid = ? AND deleted_at IS NULL
+                RETURNING project_uuid, deleted_at),
+            removed_connections AS (
+                UPDATE user_proj_connection c SET deleted_at = t.deleted_at
+                FROM tombstone t
+                WHERE c.project_uuid = t.project_uuid AND c.deleted_at IS NULL
+                RETURNING c.user_proj_con_uuid)
+            SELECT count(*) FROM tombstone
+            """;
+
+    /**
+     * Only the owner can restore a project. A project already handed to a deletion job stays deleted.
+     */
+    private static final String RESTORE_PROJECT_SQL = """
+            WITH tombstone AS (
+                SELECT p.project_uuid, p.deleted_at FROM project_table p
+                WHERE p.project_uuid = ? AND p.deleted_at IS NOT NULL AND p.project_status <> 'DELETING'
+                  AND EXISTS (SELECT 1 FROM user_proj_connection c
+                              WHERE c.project_uuid = p.project_uuid AND c.user_uuid = ?
+                                AND c.user_role = 'OWNER' AND c.deleted_at = p.deleted_at)
+                FOR UPDATE OF p),
+            restored_project AS (
+                UPDATE project_table p SET deleted_at = NULL
+                FROM tombstone t
+                WHERE p.project_uuid = t.project_uuid
+                RETURNING p.project_uuid)
+            UPDATE user_proj_connection c SET deleted_at = NULL
+            FROM tombstone t
+            WHERE c.project_uuid = t.project_uuid AND c.deleted_at = t.deleted_at
+            RETURNING c.user_uuid
+            """;
+
+    private static final String RESTORE_TASK_SQL = """
+            UPDATE task_table t SET deleted_at = NULL
+            FROM (SELECT CAST(? AS UUID) AS id) AS restored
+            WHERE t.task_uuid = restored.id AND t.deleted_at IS NOT NULL
+              AND t.created_at BETWEEN task_created_from(restored.id) AND task_created_to(restored.id)
+              AND EXISTS (SELECT 1 FROM project_table p WHERE p.project_uuid = t.project_uuid AND p.deleted_at IS NULL)
+            """;
+
+    private static final String MARK_PROJECT_PURGING_SQL = """
+            UPDATE project_table SET project_status = 'DELETING'
+            WHERE project_uuid = ? AND deleted_at IS NOT NULL
+            """;
+
+    private static final String DELETED_PROJECT_OWNER_SQL = """
+            SELECT EXISTS (SELECT 1 FROM project_table p
+                           JOIN user_proj_connection c ON c.project_uuid = p.project_uuid
+                           WHERE p.project_uuid = ? AND p.deleted_at IS NOT NULL AND c.user_uuid = ?
+                             AND c.user_role = 'OWNER' AND c.deleted_at = p.deleted_at)
+            """;
+
+    private static final String FIND_EXPIRED_PROJECTS_SQL = """
+            SELECT project_uuid FROM project_table
+            WHERE deleted_at < LOCALTIMESTAMP - ? * INTERVAL '1 millisecond' AND project_status <> 'DELETING'
+            ORDER BY deleted_at
+            LIMIT ?
+            """;
+
+    private static final String PURGE_TASKS_SQL = """
+            DELETE FROM task_table WHERE task_uuid IN (
+                SELECT task_uuid FROM task_table
+                WHERE deleted_at < LOCALTIMESTAMP - ? * INTERVAL '1 millisecond'
+                LIMIT ? FOR UPDATE SKIP LOCKED)
+            """;
+
+    private static final String PURGE_CONNECTIONS_SQL = """
+            DELETE FROM user_proj_connection WHERE user_proj_con_uuid IN (
+                SELECT user_proj_con_uuid FROM user_proj_connection
+                WHERE deleted_at < LOCALTIMESTAMP - ? * INTERVAL '1 millisecond'
+                LIMIT ? FOR UPDATE SKIP LOCKED)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Marks the project and its live connections as deleted in one statement.
+     *
+     * @return false if there is no live project with this id
+     */
+    public boolean softDeleteProject(UUID projectId) {
+        Integer deleted = jdbcTemplate.queryForObject(SOFT_DELETE_PROJECT_SQL, Integer.class, projectId);
+        return deleted != null && deleted == 1;
+    }
+
+    /**
+     * @return the members of the restored project, empty if the project is not deleted, is being
+     * purged, or the user was not its owner
+     */
+    public List<UUID> restoreProject(UUID projectId, UUID ownerId) {
+        return jdbcTemplate.queryForList(RESTORE_PROJECT_SQL, UUID.class, projectId, ownerId);
+    }
+
+    /**
+     * @return false if the task is not deleted or its project is deleted
+     */
+    public boolean restoreTask(UUID taskId) {
+        return jdbcTemplate.update(RESTORE_TASK_SQL, taskId) == 1;
+    }
+
+    /**
+     * Hands a deleted project over to a deletion job, after which it can no longer be restored.
+     *
+     * @return false if there is no deleted project with this id
+     */
+    public boolean markProjectPurging(UUID projectId) {
+        return jdbcTemplate.update(MARK_PROJECT_PURGING_SQL, projectId) == 1;
+    }
+
+    /**
+     * @return true if the user was an owner of the project when it was deleted, false once it is purged
+     */
+    public boolean isDeletedProjectOwner(UUID projectId, UUID userId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(DELETED_PROJECT_OWNER_SQL, Boolean.class, projectId, userId));
+    }
+
+    public List<UUID> findExpiredProjects(long retentionMillis, int limit) {
+        return jdbcTemplate.queryForList(FIND_EXPIRED_PROJECTS_SQL, UUID.class, retentionMillis, limit);
+    }
+
+    public int purgeTasks(long retentionMillis, int limit) {
+        return jdbcTemplate.update(PURGE_TASKS_SQL, retentionMillis, limit);
+    }
+
+    public int purgeConnections(long retentionMillis, int limit) {
+        return jdbcTemplate.update(PURGE_CONNECTIONS_SQL, retentionMillis, limit);
+    }
+}
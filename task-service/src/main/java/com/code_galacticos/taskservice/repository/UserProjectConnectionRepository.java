@@ -1,6 +1,8 @@
 package com.code_galacticos.taskservice.repository;
 
 import com.code_galacticos.taskservice.model.entity.UserProjectConnection;
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import com.code_galacticos.taskservice.repository.projection.ProjectRoleView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -22,6 +24,16 @@ public interface UserProjectConnectionRepository extends JpaRepository<UserProje
 
     Optional<UserProjectConnection> findByProjectIdAndUserId(UUID projectId, UUID userId);
 
+    @Query("SELECT c.role FROM UserProjectConnection c WHERE c.project.id = :projectId AND c.user.id = :userId")
+    Optional<UserRole> findRoleByProjectIdAndUserId(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+
+    @Query("SELECT c.user.id FROM UserProjectConnection c WHERE c.project.id = :projectId " +
+            "AND c.role = com.code_galacticos.taskservice.model.enums.UserRole.OWNER")
+    List<UUID> findOwnerIdsByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT c.project.id AS projectId, c.role AS role FROM UserProjectConnection c WHERE c.user.id = :userId")
+    List<ProjectRoleView> findProjectRolesByUserId(@Param("userId") UUID userId);
+
     @Modifying
     @Query("DELETE FROM UserProjectConnection c WHERE c.user.id = :userId")
     void deleteAllByUserId(@Param("userId") UUID userId);
@@ -0,0 +1,77 @@
+package com.code_galacticos.taskservice.repository;
+
+import com.code_galacticos.taskservice.model.dto.PageResponseDto;
+import com.code_galacticos.taskservice.model.dto.project.ProjectListItemDto;
+import com.code_galacticos.taskservice.model.enums.ProjectStatus;
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class UserProjectListRepository {
+    /**
+     * The page of memberships is cut first, so the counts are aggregated for the listed projects
+     * only. The total is taken by a window function before the LIMIT, in the same round trip.
+     */
+    private static final String PAGE_SQL = """
+            WITH page AS (
+                SELECT p.project_uuid, p.project_name, p.project_status, c.user_role,
+                       count(*) OVER () AS total
+                FROM user_proj_connection c
+                JOIN project_table p ON p.project_uuid = c.project_uuid
+                WHERE c.user_uuid = ? AND c.deleted_at IS NULL
+                  AND p.deleted_at IS NULL AND p.project_status <> 'DELETING'
+                ORDER BY p.project_name, p.project_uuid
+                LIMIT ? OFFSET ?)
+            SELECT page.project_uuid, page.project_name, CAST(page.project_status AS text) AS project_status,
+                   CAST(page.user_role AS text) AS user_role, page.total,
+                   open_tasks.total AS open_task_count, members.total AS member_count
+            FROM page
+            CROSS JOIN LATERAL (
+                SELECT count(*) AS total FROM task_table t
+                WHERE t.project_uuid = page.project_uuid AND t.deleted_at IS NULL
+                  AND t.task_status NOT IN ('DONE', 'CANCELLED')) open_tasks
+            CROSS JOIN LATERAL (
+                SELECT count(*) AS total FROM user_proj_connection m
+                WHERE m.project_uuid = page.project_uuid AND m.deleted_at IS NULL) members
+            ORDER BY page.project_name, page.project_uuid
+            """;
+
+    private static final String COUNT_SQL = """
+            SELECT count(*)
+            FROM user_proj_connection c
+            JOIN project_table p ON p.project_uuid = c.project_uuid
+            WHERE c.user_uuid = ? AND c.deleted_at IS NULL
+              AND p.deleted_at IS NULL AND p.project_status <> 'DELETING'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PageResponseDto<ProjectListItemDto> findProjectsOfUser(UUID userId, int page, int size) {
+        List<ProjectListItemDto> content = new ArrayList<>();
+        long[] total = {-1};
+        jdbcTemplate.query(PAGE_SQL, rs -> {
+            total[0] = rs.getLong("total");
+            content.add(ProjectListItemDto.builder()
+                    .projectId(rs.getObject("project_uuid", UUID.class))
+                    .name(rs.getString("project_name"))
+                    .status(ProjectStatus.valueOf(rs.getString("project_status")))
+                    .role(UserRole.valueOf(rs.getString("user_role")))
+                    .openTaskCount(rs.getLong("open_task_count"))
+                    .memberCount(rs.getLong("member_count"))
+                    .build());
+        }, userId, size, (long) page * size);
+        if (total[0] < 0 && page > 0) {
+            // Past the last page the window function has no row to report the total on
+            Long counted = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, userId);
+            total[0] = counted == null ? 0 : counted;
+        }
+        return PageResponseDto.of(content, page, size, Math.max(total[0], 0));
+    }
+}
@@ -3,11 +3,12 @@ package com.code_galacticos.taskservice.repository;
 import com.code_galacticos.taskservice.model.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<UserEntity, UUID> {
-    Optional<UserEntity> findByEmail(String email);
+public interface UserRepository extends JpaRepository<UserEntity, UUID>, UserRepositoryCustom {
     boolean existsByEmail(String email);
+    List<UserEntity> findAllByEmailIn(Collection<String> emails);
 }
\ No newline at end of file
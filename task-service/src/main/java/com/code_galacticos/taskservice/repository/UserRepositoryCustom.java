@@ -0,0 +1,13 @@
+package com.code_galacticos.taskservice.repository;
+
+import com.code_galacticos.taskservice.model.entity.UserEntity;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    /**
+     * Looks the user up by the email natural id, served from the second-level cache when the
+     * email was resolved before.
+     */
+    Optional<UserEntity> findByEmail(String email);
+}
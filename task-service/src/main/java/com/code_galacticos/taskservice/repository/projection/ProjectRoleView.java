@@ -0,0 +1,11 @@
+package com.code_galacticos.taskservice.repository.projection;
+
+import com.code_galacticos.taskservice.model.enums.UserRole;
+
+import java.util.UUID;
+
+public interface ProjectRoleView {
+    UUID getProjectId();
+
+    UserRole getRole();
+}
@@ -0,0 +1,112 @@
+package com.code_galacticos.taskservice.service;
+
+import com.code_galacticos.taskservice.cache.ProjectBoardCache;
+import com.code_galacticos.taskservice.cache.ProjectMembershipIndex;
+import com.code_galacticos.taskservice.cache.ProjectSummaryCache;
+import com.code_galacticos.taskservice.exception.ProjectNotFoundException;
+import com.code_galacticos.taskservice.model.dto.project.ProjectImportResultDto;
+import com.code_galacticos.taskservice.repository.BulkImportRepository;
+import com.code_galacticos.taskservice.repository.ProjectRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Reader;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Imports users, project members and tasks exported from other trackers. The files are copied into
+ * staging tables and merged with a handful of statements, which keeps a migration of millions of
+ * tasks within a maintenance window. The import is all or nothing and only runs from the command
+ * line, see {@link com.code_galacticos.taskservice.cli.ImportRunner}.
+ * <p>
+ * Imported users get the id of their Firebase uid, so they sign in to their imported account, and
+ * no invitation emails are sent.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Bulk Import Service", description = "Service for importing data from other trackers")
+public class BulkImportService {
+    private final BulkImportRepository bulkImportRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMembershipIndex projectMembershipIndex;
+    private final ProjectBoardCache projectBoardCache;
+    private final ProjectSummaryCache projectSummaryCache;
+    private final TaskPartitionMaintenanceService taskPartitionMaintenanceService;
+
+    /**
+     * Imports CSV files into a project. Each file starts with a header line, see
+     * {@link BulkImportRepository} for the expected columns. Any of the files may be omitted.
+     *
+     * @param projectId UUID of the project receiving members and tasks
+     * @param users users to create, matched to existing users by email
+     * @param members project members, with role TEAM_MANAGER or MEMBER
+     * @param tasks tasks, assignees and reporters referenced by email are added to the project
+     * @return counts of the created rows
+     * @throws ProjectNotFoundException if no project found with given ID
+     * @throws IllegalArgumentException if a file is malformed or has invalid rows
+     */
+    @Operation(
+            summary = "Import project data",
+            description = "Bulk loads users, members and tasks from CSV files into a project"
+    )
+    @Transactional
+    public ProjectImportResultDto importProject(UUID projectId, Reader users, Reader members, Reader tasks) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("Project not found with id: " + projectId);
+        }
+        long start = System.nanoTime();
+        bulkImportRepository.createStagingTables();
+        long stagedUsers = stage("users", users, bulkImportRepository::stageUsers);
+        long stagedMembers = stage("members", members, bulkImportRepository::stageMembers);
+        long stagedTasks = stage("tasks", tasks, bulkImportRepository::stageTasks);
+        rejectInvalid("users", bulkImportRepository.countInvalidUsers());
+        rejectInvalid("members", bulkImportRepository.countInvalidMembers());
+        rejectInvalid("tasks", bulkImportRepository.countInvalidTasks());
+        // Before any writes, creating a partition locks the tables task_table references
+        bulkImportRepository.findTaskMonths().forEach(month -> taskPartitionMaintenanceService.ensurePartitions(month, month));
+
+        int usersCreated = bulkImportRepository.mergeUsers();
+        List<UUID> addedMembers = bulkImportRepository.mergeMembers(projectId);
+        addedMembers.forEach(memberId -> projectMembershipIndex.evict(projectId, memberId));
+        int tasksImported = bulkImportRepository.mergeTasks(projectId);
+        projectBoardCache.evictProject(projectId);
+        ProjectMembershipIndex.evictNowAndAfterCommit(() -> projectSummaryCache.evictProject(projectId));
+
+        log.info("Imported into project {} in {} ms: {} of {} users created, {} of {} members added, {} of {} tasks",
+                projectId, (System.nanoTime() - start) / 1_000_000, usersCreated, stagedUsers,
+                addedMembers.size(), stagedMembers, tasksImported, stagedTasks);
+        return ProjectImportResultDto.builder()
+                .usersCreated(usersCreated)
+                .membersAdded(addedMembers.size())
+                .tasksImported(tasksImported)
+                .build();
+    }
+
+    private static long stage(String file, Reader csv, ToLongFunction<Reader> copy) {
+        if (csv == null) {
+            return 0;
+        }
+        try {
+            return copy.applyAsLong(csv);
+        } catch (DataAccessException e) {
+            throw new IllegalArgumentException("Malformed " + file + " file: "
+                    + NestedExceptionUtils.getMostSpecificCause(e).getMessage(), e);
+        }
+    }
+
+    private static void rejectInvalid(String file, long invalidRows) {
+        if (invalidRows > 0) {
+            throw new IllegalArgumentException(invalidRows + " rows of the " + file
+                    + " file have missing, too long or unknown values");
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.code_galacticos.taskservice.service;
+
+import com.code_galacticos.taskservice.cache.EntityCacheEvictor;
+import com.code_galacticos.taskservice.cache.ProjectBoardCache;
+import com.code_galacticos.taskservice.cache.ProjectMembershipIndex;
+import com.code_galacticos.taskservice.exception.ProjectNotFoundException;
+import com.code_galacticos.taskservice.exception.UserNotFoundException;
+import com.code_galacticos.taskservice.model.entity.DeletionJobEntity;
+import com.code_galacticos.taskservice.model.enums.DeletionJobStatus;
+import com.code_galacticos.taskservice.model.enums.DeletionTarget;
+import com.code_galacticos.taskservice.model.enums.ProjectStatus;
+import com.code_galacticos.taskservice.repository.ChunkedDeletionRepository;
+import com.code_galacticos.taskservice.repository.DeletionJobRepository;
+import com.code_galacticos.taskservice.repository.TombstoneRepository;
+import com.code_galacticos.taskservice.repository.UserRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * Deletes users and purges deleted projects in the background. A job removes the dependent rows in small chunks,
+ * each in its own short transaction, and records its progress after every chunk. Jobs are leased
+ * rather than owned, so a job interrupted by a restart is picked up again once its lease expires
+ * and continues from the remaining rows.
+ */
+@Service
+@Slf4j
+@Tag(name = "Deletion Job Service", description = "Service for deleting projects and users in the background")
+public class DeletionJobService {
+    private static final EnumSet<DeletionJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(DeletionJobStatus.PENDING, DeletionJobStatus.RUNNING);
+    private static final int LEASE_LOST = -1;
+
+    private final DeletionJobRepository deletionJobRepository;
+    private final ChunkedDeletionRepository chunkedDeletionRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final UserRepository userRepository;
+    private final ProjectMembershipIndex projectMembershipIndex;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ProjectBoardCache projectBoardCache;
+    private final TransactionTemplate chunkTransaction;
+    private final String leaseOwner = "task-service-" + UUID.randomUUID();
+
+    @Value("${task.deletion.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${task.deletion.chunk-pause-ms:50}")
+    private long chunkPauseMillis;
+
+    @Value("${task.deletion.lease-ms:60000}")
+    private long leaseMillis;
+
+    @Value("${task.deletion.max-attempts:5}")
+    private int maxAttempts;
+
+    public DeletionJobService(DeletionJobRepository deletionJobRepository,
+                              ChunkedDeletionRepository chunkedDeletionRepository,
+                              TombstoneRepository tombstoneRepository,
+                              UserRepository userRepository,
+                              ProjectMembershipIndex projectMembershipIndex,
+                              EntityCacheEvictor entityCacheEvictor,
+                              ProjectBoardCache projectBoardCache,
+                              PlatformTransactionManager transactionManager) {
+        this.deletionJobRepository = deletionJobRepository;
+        this.chunkedDeletionRepository = chunkedDeletionRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.userRepository = userRepository;
+        this.projectMembershipIndex = projectMembershipIndex;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.projectBoardCache = projectBoardCache;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Schedules the removal of a deleted project's tasks, connections and the project itself. The
+     * project is marked as {@link ProjectStatus#DELETING} so it can no longer be restored. Purging a
+     * project that is already being purged returns the running job.
+     *
+     * @param projectId UUID of the deleted project to purge
+     * @param requestedBy UUID of the user starting the purge, null for the retention job
+     * @return the deletion job tracking the progress
+     * @throws ProjectNotFoundException if no deleted project found with given ID
+     */
+    @Transactional
+    @Operation(
+            summary = "Start project purge",
+            description = "Queues a background job removing a deleted project and its data"
+    )
+    public DeletionJobEntity startProjectPurge(UUID projectId, UUID requestedBy) {
+        Optional<DeletionJobEntity> running = findActiveJob(DeletionTarget.PROJECT, projectId);
+        if (running.isPresent()) {
+            return running.get();
+        }
+        if (!tombstoneRepository.markProjectPurging(projectId)) {
+            throw new ProjectNotFoundException("Deleted project not found with id: " + projectId);
+        }
+        // Task writes check the status of the cached project
+        entityCacheEvictor.evictProject(projectId);
+        return createJob(DeletionTarget.PROJECT, projectId, requestedBy);
+    }
+
+    /**
+     * Schedules the removal of the user's memberships, clears the user from assigned and reported
+     * tasks and finally deletes the user.
+     *
+     * @param userId UUID of the user to delete
+     * @param requestedBy UUID of the user starting the deletion
+     * @return the deletion job tracking the progress
+     * @throws UserNotFoundException if no user found with given ID
+     */
+    @Transactional
+    @Operation(
+            summary = "Start user deletion",
+            description = "Queues a background job removing the user and detaching it from tasks"
+    )
+    public DeletionJobEntity startUserDeletion(UUID userId, UUID requestedBy) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found with id: " + userId);
+        }
+        return findActiveJob(DeletionTarget.USER, userId)
+                .orElseGet(() -> createJob(DeletionTarget.USER, userId, requestedBy));
+    }
+
+    /**
+     * Retrieves a deletion job with its progress counters.
+     *
+     * @throws EntityNotFoundException if no job found with given ID
+     */
+    public DeletionJobEntity getJob(UUID jobId) {
+        return deletionJobRepository.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("Deletion job not found with id: " + jobId));
+    }
+
+    /**
+     * Retrieves a deletion job for a user, who can follow the jobs they started, the deletion of
+     * their own account and the purge of a project they owned when it was deleted. Other jobs are
+     * reported as not found.
+     *
+     * @throws EntityNotFoundException if no job found with given ID that the user can see
+     */
+    public DeletionJobEntity getJob(UUID jobId, UUID userId) {
+        DeletionJobEntity job = getJob(jobId);
+        boolean visible = userId.equals(job.getRequestedBy())
+                || switch (job.getTargetType()) {
+                    case USER -> userId.equals(job.getTargetId());
+                    case PROJECT -> tombstoneRepository.isDeletedProjectOwner(job.getTargetId(), userId);
+                };
+        if (!visible) {
+            throw new EntityNotFoundException("Deletion job not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Runs queued jobs one after another until none is left to claim.
+     */
+    @Scheduled(fixedDelayString = "${task.deletion.poll-interval-ms:5000}")
+    public void processJobs() {
+        Optional<UUID> claimed;
+        while ((claimed = chunkedDeletionRepository.claimNextJob(leaseOwner, leaseMillis)).isPresent()) {
+            UUID jobId = claimed.get();
+            try {
+                runJob(jobId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                chunkedDeletionRepository.failAttempt(jobId, leaseOwner, "Interrupted", maxAttempts);
+                return;
+            } catch (RuntimeException e) {
+                log.error("Deletion job {} failed: {}", jobId, e.getMessage(), e);
+                chunkedDeletionRepository.failAttempt(jobId, leaseOwner, e.getMessage(), maxAttempts);
+            }
+        }
+    }
+
+    private void runJob(UUID jobId) throws InterruptedException {
+        DeletionJobEntity job = getJob(jobId);
+        UUID targetId = job.getTargetId();
+        log.info("Running deletion job {} for {} {}", jobId, job.getTargetType(), targetId);
+
+        if (job.getTargetType() == DeletionTarget.PROJECT) {
+            if (!deleteInChunks(jobId, () -> chunkedDeletionRepository.deleteProjectTasks(targetId, chunkSize), true)
+                    || !deleteInChunks(jobId, () -> chunkedDeletionRepository.deleteProjectConnections(targetId, chunkSize), false)) {
+                return;
+            }
+            chunkedDeletionRepository.deleteProject(targetId);
+            projectMembershipIndex.evictProject(targetId);
+            entityCacheEvictor.evictProject(targetId);
+            projectBoardCache.evictProject(targetId);
+        } else {
+            if (!deleteInChunks(jobId, () -> chunkedDeletionRepository.detachUserTasks(targetId, chunkSize), true)
+                    || !deleteInChunks(jobId, () -> chunkedDeletionRepository.deleteUserConnections(targetId, chunkSize), false)) {
+                return;
+            }
+            chunkedDeletionRepository.deleteUser(targetId);
+            projectMembershipIndex.evictUser(targetId);
+            entityCacheEvictor.evictUser(targetId);
+            // The user's tasks were unassigned in every project
+            projectBoardCache.clear();
+        }
+        chunkedDeletionRepository.completeJob(jobId, leaseOwner);
+        log.info("Deletion job {} completed", jobId);
+    }
+
+    /**
+     * Runs one kind of chunk until it affects no more rows.
+     *
+     * @return false if the lease was lost and the job must be left to its new owner
+     */
+    private boolean deleteInChunks(UUID jobId, IntSupplier chunk, boolean countsTasks) throws InterruptedException {
+        while (true) {
+            Integer affected = chunkTransaction.execute(status -> {
+                int rows = chunk.getAsInt();
+                if (!chunkedDeletionRepository.recordProgress(jobId, leaseOwner,
+                        countsTasks ? rows : 0, countsTasks ? 0 : rows, leaseMillis)) {
+                    status.setRollbackOnly();
+                    return LEASE_LOST;
+                }
+                return rows;
+            });
+            if (affected == null || affected == LEASE_LOST) {
+                log.warn("Lost the lease of deletion job {}, leaving it to the new owner", jobId);
+                return false;
+            }
+            if (affected == 0) {
+                return true;
+            }
+            // Spreads the WAL and replication load of large deletions over time
+            Thread.sleep(chunkPauseMillis);
+        }
+    }
+
+    private Optional<DeletionJobEntity> findActiveJob(DeletionTarget targetType, UUID targetId) {
+        return deletionJobRepository.findFirstByTargetTypeAndTargetIdAndStatusIn(targetType, targetId, ACTIVE_STATUSES);
+    }
+
+    private DeletionJobEntity createJob(DeletionTarget targetType, UUID targetId, UUID requestedBy) {
+        DeletionJobEntity job = new DeletionJobEntity();
+        job.setTargetType(targetType);
+        job.setTargetId(targetId);
+        job.setRequestedBy(requestedBy);
+        job.setStatus(DeletionJobStatus.PENDING);
+        return deletionJobRepository.save(job);
+    }
+}
@@ -1,17 +1,25 @@
 package com.code_galacticos.taskservice.service;
 
+import com.code_galacticos.taskservice.cache.EntityCacheEvictor;
+import com.code_galacticos.taskservice.cache.ProjectMembershipIndex;
+import com.code_galacticos.taskservice.cache.ProjectSummaryCache;
 import com.code_galacticos.taskservice.exception.ProjectNotFoundException;
 import com.code_galacticos.taskservice.exception.UserNotFoundException;
 import com.code_galacticos.taskservice.exception.UserProjectConnectionException;
+import com.code_galacticos.taskservice.model.dto.project.ProjectCloneDto;
+import com.code_galacticos.taskservice.model.dto.project.ProjectSummaryDto;
 import com.code_galacticos.taskservice.model.entity.ProjectEntity;
 import com.code_galacticos.taskservice.model.entity.UserEntity;
 import com.code_galacticos.taskservice.model.entity.UserProjectConnection;
+import com.code_galacticos.taskservice.model.entity.id.UuidV7;
 import com.code_galacticos.taskservice.model.enums.ProjectStatus;
 import com.code_galacticos.taskservice.model.enums.UserRole;
 import com.code_galacticos.taskservice.rabbit.EmailNotificationMessage;
 import com.code_galacticos.taskservice.rabbit.EmailNotificationSender;
+import com.code_galacticos.taskservice.repository.ProjectCloneRepository;
 import com.code_galacticos.taskservice.repository.ProjectRepository;
 import com.code_galacticos.taskservice.repository.TaskRepository;
+import com.code_galacticos.taskservice.repository.TombstoneRepository;
 import com.code_galacticos.taskservice.repository.UserProjectConnectionRepository;
 import com.code_galacticos.taskservice.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +46,11 @@ public class ProjectService {
     private final UserRepository userRepository;
     private final EmailNotificationSender emailNotificationSender;
     private final EmailTemplateService emailTemplateService; // Add this
+    private final TombstoneRepository tombstoneRepository;
+    private final ProjectCloneRepository projectCloneRepository;
+    private final ProjectMembershipIndex projectMembershipIndex;
+    private final ProjectSummaryCache projectSummaryCache;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     /**
      * Creates a new project and establishes UserProjectConnection with OWNER role.
@@ -70,18 +83,19 @@ public class ProjectService {
             )
     })
     public ProjectEntity createProject(ProjectEntity projectEntity, UserEntity creator) {
-        // Save the project
-        UUID projectId = UUID.randomUUID();
-        projectEntity.setId(projectId);
+        // Save the project. An unknown id makes save() insert even if the request carried an id,
+        // the id is then generated again on insert
+        projectEntity.setId(UuidV7.generate());
         ProjectEntity savedProject = projectRepository.save(projectEntity);
 
         // Create UserProjectConnection with OWNER role
         UserProjectConnection connection = new UserProjectConnection();
-        connection.setId(UUID.randomUUID());
+        connection.setId(UuidV7.generate());
         connection.setProject(savedProject);
         connection.setUser(creator);
         connection.setRole(UserRole.OWNER);
         userProjectConnectionRepository.save(connection);
+        projectMembershipIndex.evict(savedProject.getId(), creator.getId());
 
         // Send project creation notification to the creator
         EmailNotificationMessage creationMessage = emailTemplateService.createProjectCreationEmail(
@@ -102,6 +116,44 @@ public class ProjectService {
     }
 
 
+    /**
+     * Clones a project, e.g. a sprint or engagement template, into a new project owned by the given user.
+     * Tasks, and optionally memberships, are copied inside the database with one statement each.
+     * Only the new owner is notified, copied members are not sent an email.
+     *
+     * @param sourceProjectId UUID of the project to clone
+     * @param cloneDto Name and description of the new project, whether to copy the members
+     * @param creator User cloning the project. Will be assigned OWNER role.
+     * @return the created ProjectEntity
+     * @throws ProjectNotFoundException if no project found with given ID
+     *
+     * @apiNote Copied tasks start as TODO with the creator as reporter
+     * @see ProjectCloneRepository
+     */
+    @Transactional
+    @Operation(
+            summary = "Clone project",
+            description = "Copies a project's tasks, and optionally its members, into a new project"
+    )
+    public ProjectEntity cloneProject(UUID sourceProjectId, ProjectCloneDto cloneDto, UserEntity creator) {
+        UUID projectId = UuidV7.generate();
+        if (!projectCloneRepository.cloneProject(sourceProjectId, projectId, cloneDto.getName(), cloneDto.getDescription())) {
+            throw new ProjectNotFoundException("Project not found with id: " + sourceProjectId);
+        }
+        projectCloneRepository.addOwner(projectId, creator.getId());
+        projectMembershipIndex.evict(projectId, creator.getId());
+        if (cloneDto.isIncludeMembers()) {
+            projectCloneRepository.cloneMembers(sourceProjectId, projectId, creator.getId())
+                    .forEach(memberId -> projectMembershipIndex.evict(projectId, memberId));
+        }
+        projectCloneRepository.cloneTasks(sourceProjectId, projectId, creator.getId(), cloneDto.isIncludeMembers());
+
+        ProjectEntity clonedProject = getProjectById(projectId);
+        emailNotificationSender.sendEmailNotification(
+                emailTemplateService.createProjectCreationEmail(creator, clonedProject));
+        return clonedProject;
+    }
+
     /**
      * Retrieves a project by its unique identifier.
      *
@@ -118,6 +170,22 @@ public class ProjectService {
                 .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + projectId));
     }
 
+    /**
+     * Retrieves the dashboard numbers of a project: task counts by status and priority, overdue tasks,
+     * members by role and the assignees with the most open tasks.
+     *
+     * @param projectId UUID of the project
+     * @return the project summary, computed with one aggregate query and cached for a few seconds
+     * @see ProjectSummaryCache
+     */
+    @Operation(
+            summary = "Get project summary",
+            description = "Retrieves aggregated task and member counts of a project"
+    )
+    public ProjectSummaryDto getProjectSummary(UUID projectId) {
+        return projectSummaryCache.getSummary(projectId);
+    }
+
     /**
      * Updates an existing project's details.
      * Only updates the project entity itself, doesn't modify any user connections.
@@ -135,42 +203,60 @@ public class ProjectService {
     )
     public ProjectEntity updateProject(ProjectEntity projectEntity) {
         // Verify project exists
-        if (!projectRepository.existsById(projectEntity.getId())) {
-            throw new ProjectNotFoundException("Project not found with id: " + projectEntity.getId());
-        }
-        return projectRepository.save(projectEntity);
+        ProjectEntity existingProject = projectRepository.findById(projectEntity.getId())
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + projectEntity.getId()));
+        requireWritable(existingProject);
+        requireClientStatus(projectEntity.getStatus());
+        ProjectEntity savedProject = projectRepository.save(projectEntity);
+        entityCacheEvictor.evictProject(savedProject.getId());
+        return savedProject;
     }
 
     /**
-     * Deletes a project and all its related data.
-     * This includes:
+     * Deletes a project together with its user connections.
+     * The project is only marked as deleted, a single update on the request path, and can be restored
+     * by its owner until the retention period ends. After that the purge job removes:
      * - All tasks within the project
      * - All user-project connections
      * - The project entity itself
      *
      * @param projectId UUID of the project to delete
      * @throws ProjectNotFoundException if no project found with given ID
-     *
-     * @apiNote This operation cannot be undone. All associated data will be permanently deleted.
+     * @see TombstonePurgeService
      */
     @Transactional
     @Operation(
             summary = "Delete project",
-            description = "Deletes project and all associated data (tasks, user connections)"
+            description = "Marks the project and its user connections as deleted, the data is purged later"
     )
     public void deleteProject(UUID projectId) {
-        if (!projectRepository.existsById(projectId)) {
+        if (!tombstoneRepository.softDeleteProject(projectId)) {
             throw new ProjectNotFoundException("Project not found with id: " + projectId);
         }
+        projectMembershipIndex.evictProject(projectId);
+        entityCacheEvictor.evictProject(projectId);
+    }
 
-//        // Delete all related tasks first
-//        taskRepository.deleteAllByProjectId(projectId);
-//
-//        // Delete all user-project connections
-//        userProjectConnectionRepository.deleteAllByProjectId(projectId);
-
-        // Finally delete the project
-        projectRepository.deleteByProjectId(projectId);
+    /**
+     * Restores a deleted project with the user connections it had when it was deleted.
+     *
+     * @param projectId UUID of the deleted project
+     * @param userId UUID of the user restoring it, must have been the project owner
+     * @return the restored ProjectEntity
+     * @throws ProjectNotFoundException if the project is not deleted, already purged or the user was not its owner
+     */
+    @Transactional
+    @Operation(
+            summary = "Restore project",
+            description = "Restores a deleted project and its user connections"
+    )
+    public ProjectEntity restoreProject(UUID projectId, UUID userId) {
+        List<UUID> members = tombstoneRepository.restoreProject(projectId, userId);
+        if (members.isEmpty()) {
+            throw new ProjectNotFoundException("Deleted project not found with id: " + projectId);
+        }
+        members.forEach(memberId -> projectMembershipIndex.evict(projectId, memberId));
+        return getProjectById(projectId);
     }
 
     /**
@@ -190,13 +276,30 @@ public class ProjectService {
         ProjectEntity project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + projectId));
 
+        requireWritable(project);
+        requireClientStatus(newStatus);
         project.setStatus(newStatus);
 
         // Send status update notification to all project members
         List<UserProjectConnection> projectMembers = userProjectConnectionRepository.findAllByProjectId(projectId);
 
-        return projectRepository.save(project);
+        ProjectEntity savedProject = projectRepository.save(project);
+        entityCacheEvictor.evictProject(projectId);
+        return savedProject;
     }
 
+    /**
+     * A project being purged accepts no more changes.
+     */
+    static void requireWritable(ProjectEntity project) {
+        if (project.getStatus() == ProjectStatus.DELETING) {
+            throw new ProjectNotFoundException("Project is being deleted: " + project.getId());
+        }
+    }
 
-}
\ No newline at end of file
+    private static void requireClientStatus(ProjectStatus status) {
+        if (status == ProjectStatus.DELETING) {
+            throw new IllegalArgumentException("Projects are deleted through DELETE /api/v1/projects/{projectId}");
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package com.code_galacticos.taskservice.service;
 
+import com.code_galacticos.taskservice.cache.ProjectMembershipIndex;
+import com.code_galacticos.taskservice.cache.ProjectReadCoalescer;
 import com.code_galacticos.taskservice.exception.ProjectNotFoundException;
 import com.code_galacticos.taskservice.exception.UserNotFoundException;
 import com.code_galacticos.taskservice.exception.UserProjectConnectionException;
+import com.code_galacticos.taskservice.model.dto.PageResponseDto;
+import com.code_galacticos.taskservice.model.dto.project.ProjectListItemDto;
+import com.code_galacticos.taskservice.model.dto.project.ProjectUserConnectionBatchResultDto;
 import com.code_galacticos.taskservice.model.dto.project.ProjectUserConnectionDto;
 import com.code_galacticos.taskservice.model.entity.ProjectEntity;
 import com.code_galacticos.taskservice.model.entity.UserEntity;
 import com.code_galacticos.taskservice.model.entity.UserProjectConnection;
+import com.code_galacticos.taskservice.model.entity.id.UuidV7;
 import com.code_galacticos.taskservice.model.enums.UserRole;
 import com.code_galacticos.taskservice.rabbit.EmailNotificationMessage;
 import com.code_galacticos.taskservice.rabbit.EmailNotificationSender;
+import com.code_galacticos.taskservice.repository.ProjectConnectionBatchRepository;
 import com.code_galacticos.taskservice.repository.ProjectRepository;
 import com.code_galacticos.taskservice.repository.UserProjectConnectionRepository;
+import com.code_galacticos.taskservice.repository.UserProjectListRepository;
 import com.code_galacticos.taskservice.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -21,11 +29,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.ErrorResponse;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,6 +51,16 @@ public class ProjectUserConnectionService {
     private final ProjectRepository projectRepository;
     private final EmailNotificationSender emailNotificationSender;
     private final EmailTemplateService emailTemplateService;
+    private final ProjectMembershipIndex projectMembershipIndex;
+    private final ProjectReadCoalescer projectReadCoalescer;
+    private final ProjectConnectionBatchRepository projectConnectionBatchRepository;
+    private final UserProjectListRepository userProjectListRepository;
+
+    @Value("${task.project-connections.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${task.projects.max-page-size:100}")
+    private int maxPageSize;
 
     /**
      * Creates or updates a connection between a user and a project with a specified role.
@@ -99,19 +122,14 @@ public class ProjectUserConnectionService {
         // Get project by ID
         ProjectEntity project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + projectId));
+        ProjectService.requireWritable(project);
 
         // Find project owner for the email notification
-        UserEntity projectOwner = userProjectConnectionRepository.findAllByProjectId(projectId).stream()
-                .filter(conn -> conn.getRole() == UserRole.OWNER)
-                .map(UserProjectConnection::getUser)
-                .findFirst()
-                .orElseThrow(() -> new ProjectNotFoundException("Project owner not found for project: " + projectId));
+        UserEntity projectOwner = findProjectOwner(projectId);
 
         // Check if connection already exists
-        List<UserProjectConnection> existingConnections = userProjectConnectionRepository.findAllByProjectId(projectId);
-        UserProjectConnection existingConnection = existingConnections.stream()
-                .filter(connection -> connection.getUser().getEmail().equals(request.getUserEmail()))
-                .findFirst()
+        UserProjectConnection existingConnection = userProjectConnectionRepository
+                .findByProjectIdAndUserId(projectId, user.getId())
                 .orElse(null);
 
         UserProjectConnection savedConnection;
@@ -119,14 +137,16 @@ public class ProjectUserConnectionService {
             // Update existing connection with new role
             existingConnection.setRole(request.getUserRole());
             savedConnection = userProjectConnectionRepository.save(existingConnection);
+            projectMembershipIndex.evict(projectId, user.getId());
         } else {
             // Create new connection
             UserProjectConnection connection = new UserProjectConnection();
-            connection.setId(UUID.randomUUID());
+            connection.setId(UuidV7.generate());
             connection.setUser(user);
             connection.setProject(project);
             connection.setRole(request.getUserRole());
             savedConnection = userProjectConnectionRepository.save(connection);
+            projectMembershipIndex.evict(projectId, user.getId());
 
             // Use EmailTemplateService to create the notification
             EmailNotificationMessage emailNotificationMessage = emailTemplateService.createProjectAdditionEmail(
@@ -140,43 +160,118 @@ public class ProjectUserConnectionService {
         return savedConnection;
     }
     /**
-     * Retrieves all projects associated with a specific user.
+     * Adds or updates many project members at once. Users are resolved with a single query,
+     * all connections are written with one upsert statement and the invitation emails of the
+     * new members are published over one channel.
+     *
+     * @param requests user emails and roles, a later entry for the same email wins
+     * @param projectId UUID of the project
+     * @return which emails were added, updated, left unchanged or are unknown
+     * @throws ProjectNotFoundException if project or its owner not found
+     * @throws UserProjectConnectionException if the batch is too large or an entry lacks email or role
+     *
+     * @apiNote
+     * - The project owner's role is never changed by a batch
+     * - Unknown emails are reported instead of failing the whole batch
+     */
+    @Operation(
+            summary = "Create or update project user connections in bulk",
+            description = "Associates many users with a project in one request"
+    )
+    public ProjectUserConnectionBatchResultDto createProjectUserConnections(List<ProjectUserConnectionDto> requests,
+                                                                           UUID projectId) {
+        if (requests.size() > maxBatchSize) {
+            throw new UserProjectConnectionException("Batch size " + requests.size()
+                    + " exceeds the maximum of " + maxBatchSize);
+        }
+        Map<String, UserRole> rolesByEmail = new LinkedHashMap<>();
+        for (ProjectUserConnectionDto request : requests) {
+            if (request.getUserEmail() == null || request.getUserRole() == null) {
+                throw new UserProjectConnectionException("Every entry needs a user email and a role");
+            }
+            rolesByEmail.put(request.getUserEmail(), request.getUserRole());
+        }
+
+        ProjectEntity project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + projectId));
+        ProjectService.requireWritable(project);
+        UserEntity projectOwner = findProjectOwner(projectId);
+
+        Map<String, UserEntity> usersByEmail = userRepository.findAllByEmailIn(rolesByEmail.keySet()).stream()
+                .collect(Collectors.toMap(UserEntity::getEmail, Function.identity()));
+        Map<UUID, UserRole> rolesByUser = new LinkedHashMap<>();
+        List<String> unknownEmails = new ArrayList<>();
+        rolesByEmail.forEach((email, role) -> {
+            UserEntity user = usersByEmail.get(email);
+            if (user == null) {
+                unknownEmails.add(email);
+            } else {
+                rolesByUser.put(user.getId(), role);
+            }
+        });
+
+        Map<UUID, Boolean> written = rolesByUser.isEmpty()
+                ? Map.of()
+                : projectConnectionBatchRepository.upsertConnections(projectId, rolesByUser);
+        rolesByUser.keySet().forEach(userId -> projectMembershipIndex.evict(projectId, userId));
+
+        List<String> addedEmails = new ArrayList<>();
+        List<String> updatedEmails = new ArrayList<>();
+        List<String> unchangedEmails = new ArrayList<>();
+        List<EmailNotificationMessage> invitations = new ArrayList<>();
+        for (String email : rolesByEmail.keySet()) {
+            UserEntity user = usersByEmail.get(email);
+            if (user == null) {
+                continue;
+            }
+            Boolean inserted = written.get(user.getId());
+            if (inserted == null) {
+                unchangedEmails.add(user.getEmail());
+            } else if (inserted) {
+                addedEmails.add(user.getEmail());
+                invitations.add(emailTemplateService.createProjectAdditionEmail(user, projectOwner, project));
+            } else {
+                updatedEmails.add(user.getEmail());
+            }
+        }
+        emailNotificationSender.sendEmailNotifications(invitations);
+
+        return ProjectUserConnectionBatchResultDto.builder()
+                .addedEmails(addedEmails)
+                .updatedEmails(updatedEmails)
+                .unchangedEmails(unchangedEmails)
+                .unknownEmails(unknownEmails)
+                .build();
+    }
+
+    /**
+     * Retrieves one page of the projects a user belongs to, with the user's role and the project's
+     * open task and member counts.
      *
      * @param userId UUID of the user
-     * @return List of ProjectEntity objects that the user has access to
-     * @throws UserNotFoundException if user not found
+     * @param page zero-based page number, negative values are treated as 0
+     * @param size page size, capped at {@code task.projects.max-page-size}
+     * @return the page of projects, sorted by name
      *
      * @apiNote
-     * - Returns projects for all roles (OWNER, MANAGER, DEVELOPER, etc.)
-     * - Projects are sorted by creation date (newest first)
-     * - Includes both active and archived projects
+     * - Returns projects for all roles (OWNER, TEAM_MANAGER, MEMBER)
+     * - Includes both active and archived projects, deleted ones are left out
+     * - Served by a single query, counts are only computed for the projects on the page
      */
     @Operation(
             summary = "Get user's projects",
-            description = "Retrieves all projects that a user has access to"
+            description = "Retrieves a page of the projects that a user has access to"
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Projects retrieved successfully",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectEntity.class)))
-            ),
-            @ApiResponse(
-                    responseCode = "404",
-                    description = "User not found",
-                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    content = @Content(schema = @Schema(implementation = PageResponseDto.class))
             )
     })
-    public List<ProjectEntity> getAllProjectsForUser(UUID userId) {
-        // Verify user exists
-        if (!userRepository.existsById(userId)) {
-            throw new UserNotFoundException("User not found with id: " + userId);
-        }
-
-        // Get all connections for user and map to projects
-        return userProjectConnectionRepository.findAllByUserId(userId).stream()
-                .map(UserProjectConnection::getProject)
-                .collect(Collectors.toList());
+    public PageResponseDto<ProjectListItemDto> getProjectsForUser(UUID userId, int page, int size) {
+        return userProjectListRepository.findProjectsOfUser(userId,
+                Math.max(page, 0), Math.clamp(size, 1, maxPageSize));
     }
 
     /**
@@ -226,6 +321,7 @@ public class ProjectUserConnectionService {
         // Get project
         ProjectEntity project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + projectId));
+        ProjectService.requireWritable(project);
 
         // Get user
         UserEntity userToRemove = userRepository.findById(userId)
@@ -244,14 +340,11 @@ public class ProjectUserConnectionService {
         }
 
         // Find project owner for the email notification
-        UserEntity projectOwner = userProjectConnectionRepository.findAllByProjectId(projectId).stream()
-                .filter(conn -> conn.getRole() == UserRole.OWNER)
-                .map(UserProjectConnection::getUser)
-                .findFirst()
-                .orElseThrow(() -> new ProjectNotFoundException("Project owner not found for project: " + projectId));
+        UserEntity projectOwner = findProjectOwner(projectId);
 
         // Delete the connection
         userProjectConnectionRepository.delete(connection);
+        projectMembershipIndex.evict(projectId, userToRemove.getId());
 
         // Send email notification
         EmailNotificationMessage emailNotificationMessage = emailTemplateService.createProjectRemovalEmail(
@@ -299,12 +392,7 @@ public class ProjectUserConnectionService {
             )
     })
     public UserRole getUserRoleInProject(UUID userId, UUID projectId) {
-        List<UserProjectConnection> connections = userProjectConnectionRepository.findAllByProjectId(projectId);
-
-        return connections.stream()
-                .filter(connection -> connection.getUser().getId().equals(userId))
-                .map(UserProjectConnection::getRole)
-                .findFirst()
+        return projectMembershipIndex.findRole(projectId, userId)
                 .orElseThrow(() -> new UserProjectConnectionException(
                         "No connection found for user: " + userId + " in project: " + projectId));
     }
@@ -319,6 +407,7 @@ public class ProjectUserConnectionService {
      * @apiNote
      * - Returns all active user connections
      * - Includes user details and roles
+     * - Concurrent calls for the same project share one query and the same unmodifiable list
      * - Sorted by role hierarchy and then alphabetically by user name
      */
     @Operation(
@@ -338,12 +427,17 @@ public class ProjectUserConnectionService {
             )
     })
     public List<UserProjectConnection> getAllUsersInProject(UUID projectId) {
-        if (!projectRepository.existsById(projectId)) {
-            throw new ProjectNotFoundException("Project not found with id: " + projectId);
-        }
-
-        return userProjectConnectionRepository.findAllByProjectId(projectId);
+        return projectReadCoalescer.getMembers(projectId, () -> {
+            if (!projectRepository.existsById(projectId)) {
+                throw new ProjectNotFoundException("Project not found with id: " + projectId);
+            }
+            return userProjectConnectionRepository.findAllByProjectId(projectId);
+        });
     }
 
-
-}
\ No newline at end of file
+    private UserEntity findProjectOwner(UUID projectId) {
+        return projectMembershipIndex.findOwnerId(projectId)
+                .flatMap(userRepository::findById)
+                .orElseThrow(() -> new ProjectNotFoundException("Project owner not found for project: " + projectId));
+    }
+}
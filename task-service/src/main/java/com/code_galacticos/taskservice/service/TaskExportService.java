@@ -0,0 +1,155 @@
+package com.code_galacticos.taskservice.service;
+
+import com.code_galacticos.taskservice.model.enums.ExportFormat;
+import com.code_galacticos.taskservice.repository.TaskExportRepository;
+import com.code_galacticos.taskservice.repository.TaskExportRepository.CreatedRange;
+import com.code_galacticos.taskservice.repository.TaskExportRepository.ExportedTask;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Streams project tasks to the client while they are read from the database. Rows are written
+ * one by one through a buffered writer, so memory use does not grow with the size of the project.
+ */
+@Service
+@Slf4j
+@Tag(name = "Task Export Service", description = "Service for exporting project tasks")
+public class TaskExportService {
+    private static final String CSV_HEADER =
+            "task_id,name,description,status,priority,deadline,created_at,assignee_email,reporter_email";
+
+    private final TaskExportRepository taskExportRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate exportTransaction;
+
+    public TaskExportService(TaskExportRepository taskExportRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.taskExportRepository = taskExportRepository;
+        this.objectMapper = objectMapper;
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Creates the response body that writes all live tasks of the project. The query runs when
+     * the body is written, in a read-only transaction held open for the duration of the download.
+     * A creation time range limits the export to the task partitions of those months.
+     *
+     * @param projectId UUID of the project
+     * @param format output format, one CSV line or one JSON object per task
+     * @param createdFrom only tasks created at or after this time, null for no lower bound
+     * @param createdTo only tasks created before this time, null for no upper bound
+     * @return body writing the export to the response stream
+     */
+    @Operation(
+            summary = "Export project tasks",
+            description = "Streams all tasks of a project as CSV or newline-delimited JSON"
+    )
+    public StreamingResponseBody exportTasks(UUID projectId, ExportFormat format,
+                                             LocalDateTime createdFrom, LocalDateTime createdTo) {
+        CreatedRange created = new CreatedRange(createdFrom, createdTo);
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try {
+                switch (format) {
+                    case CSV -> writeCsv(projectId, created, writer);
+                    case NDJSON -> writeNdjson(projectId, created, writer);
+                }
+            } catch (UncheckedIOException e) {
+                log.warn("Export of project {} aborted: {}", projectId, e.getMessage());
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    private void writeCsv(UUID projectId, CreatedRange created, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        stream(projectId, created, task -> {
+            writer.write(task.taskId().toString());
+            writeCsvField(writer, task.name());
+            writeCsvField(writer, task.description());
+            writeCsvField(writer, task.status());
+            writeCsvField(writer, task.priority());
+            writeCsvField(writer, toText(task.deadline()));
+            writeCsvField(writer, toText(task.createdAt()));
+            writeCsvField(writer, task.assigneeEmail());
+            writeCsvField(writer, task.reporterEmail());
+            writer.write("\r\n");
+        });
+    }
+
+    private void writeNdjson(UUID projectId, CreatedRange created, Writer writer) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            stream(projectId, created, task -> {
+                generator.writeStartObject();
+                generator.writeStringField("taskId", task.taskId().toString());
+                generator.writeStringField("name", task.name());
+                generator.writeStringField("description", task.description());
+                generator.writeStringField("status", task.status());
+                generator.writeStringField("priority", task.priority());
+                generator.writeStringField("deadline", toText(task.deadline()));
+                generator.writeStringField("createdAt", toText(task.createdAt()));
+                generator.writeStringField("assigneeEmail", task.assigneeEmail());
+                generator.writeStringField("reporterEmail", task.reporterEmail());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            });
+        }
+    }
+
+    private void stream(UUID projectId, CreatedRange created, RowWriter rowWriter) {
+        exportTransaction.executeWithoutResult(status -> taskExportRepository.streamProjectTasks(projectId, created, task -> {
+            try {
+                rowWriter.write(task);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    /**
+     * Writes a separator and the value, quoted when it contains a separator, a quote or a line break.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String toText(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toString();
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ExportedTask task) throws IOException;
+    }
+}
@@ -0,0 +1,104 @@
+package com.code_galacticos.taskservice.service;
+
+import com.code_galacticos.taskservice.repository.TaskPartitionRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps the monthly partitions of {@code task_table} ahead of the clock and, if enabled, archives
+ * old ones. Inserts fail when their month has no partition, so partitions are created some months
+ * in advance, at startup and then daily. Archiving detaches a partition once its whole month lies
+ * beyond the retention and none of its tasks are still open, and moves it out of {@code task_table}
+ * into the archive schema, optionally on a cheaper tablespace.
+ */
+@Service
+@Slf4j
+@Tag(name = "Task Partition Maintenance Service", description = "Service for creating and archiving task partitions")
+public class TaskPartitionMaintenanceService {
+    private final TaskPartitionRepository taskPartitionRepository;
+    private final TransactionTemplate partitionTransaction;
+
+    @Value("${task.partitions.premake-months:3}")
+    private int premakeMonths;
+
+    @Value("${task.partitions.lock-timeout-ms:5000}")
+    private long lockTimeoutMillis;
+
+    @Value("${task.partitions.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${task.partitions.archive.after-months:24}")
+    private int archiveAfterMonths;
+
+    @Value("${task.partitions.archive.tablespace:}")
+    private String archiveTablespace;
+
+    public TaskPartitionMaintenanceService(TaskPartitionRepository taskPartitionRepository,
+                                           PlatformTransactionManager transactionManager) {
+        this.taskPartitionRepository = taskPartitionRepository;
+        this.partitionTransaction = new TransactionTemplate(transactionManager);
+        this.partitionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${task.partitions.cron:0 30 2 * * *}")
+    @Operation(
+            summary = "Maintain task partitions",
+            description = "Creates the upcoming monthly task partitions and archives old ones"
+    )
+    public void maintainPartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        ensurePartitions(currentMonth, currentMonth.plusMonths(premakeMonths));
+        if (archiveEnabled) {
+            archivePartitions(currentMonth.minusMonths(archiveAfterMonths));
+        }
+    }
+
+    /**
+     * Creates the partitions of all months from {@code from} to {@code to}, both inclusive. Each one is
+     * created in its own transaction, also when called inside another one, so the lock it takes on
+     * {@code task_table} is not held until the caller commits. It also locks the tables referenced by
+     * {@code task_table}, so a calling transaction must not have written to users or projects yet.
+     */
+    public void ensurePartitions(LocalDate from, LocalDate to) {
+        for (LocalDate month = from.withDayOfMonth(1); !month.isAfter(to); month = month.plusMonths(1)) {
+            try {
+                LocalDate partitionMonth = month;
+                if (Boolean.TRUE.equals(partitionTransaction.execute(
+                        status -> taskPartitionRepository.ensurePartition(partitionMonth, lockTimeoutMillis)))) {
+                    log.info("Created task partition for {}", month);
+                }
+            } catch (DataAccessException e) {
+                // Created by another instance in the meantime, or task_table is busy, retried on the next run
+                log.warn("Failed to create task partition for {}: {}", month, e.getMessage());
+            }
+        }
+    }
+
+    private void archivePartitions(LocalDate cutoff) {
+        for (String partition : taskPartitionRepository.findPartitionsBefore(cutoff)) {
+            try {
+                if (taskPartitionRepository.hasOpenTasks(partition)) {
+                    log.info("Keeping task partition {}, it still has open tasks", partition);
+                    continue;
+                }
+                taskPartitionRepository.archivePartition(partition, archiveTablespace);
+                log.info("Archived task partition {}", partition);
+            } catch (DataAccessException e) {
+                log.warn("Failed to archive task partition {}: {}", partition, e.getMessage());
+            }
+        }
+    }
+}
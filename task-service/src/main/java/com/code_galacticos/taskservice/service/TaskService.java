@@ -1,12 +1,26 @@
 package com.code_galacticos.taskservice.service;
 
+import com.code_galacticos.taskservice.cache.ProjectBoardCache;
+import com.code_galacticos.taskservice.cache.ProjectBoardSnapshot;
+import com.code_galacticos.taskservice.cache.ProjectReadCoalescer;
+import com.code_galacticos.taskservice.cache.ProjectSummaryCache;
+import com.code_galacticos.taskservice.model.dto.CursorPageResponseDto;
+import com.code_galacticos.taskservice.model.dto.PageResponseDto;
+import com.code_galacticos.taskservice.model.dto.task.AssignedTaskDto;
+import com.code_galacticos.taskservice.model.dto.task.ProjectBoardDto;
+import com.code_galacticos.taskservice.model.dto.task.TaskSearchResultDto;
 import com.code_galacticos.taskservice.model.entity.ProjectEntity;
 import com.code_galacticos.taskservice.model.entity.TaskEntity;
 import com.code_galacticos.taskservice.model.entity.UserEntity;
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
 import com.code_galacticos.taskservice.rabbit.EmailNotificationMessage;
 import com.code_galacticos.taskservice.rabbit.EmailNotificationSender;
+import com.code_galacticos.taskservice.repository.AssignedTaskRepository;
 import com.code_galacticos.taskservice.repository.ProjectRepository;
 import com.code_galacticos.taskservice.repository.TaskRepository;
+import com.code_galacticos.taskservice.repository.TaskSearchRepository;
+import com.code_galacticos.taskservice.repository.TombstoneRepository;
 import com.code_galacticos.taskservice.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,36 +30,151 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.ErrorResponse;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Tag(name = "Task Service", description = "Service for managing tasks within projects")
 public class TaskService {
+    private static final Pattern SEARCH_WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_SEARCH_WORDS = 8;
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final ProjectSummaryCache projectSummaryCache;
+    private final ProjectReadCoalescer projectReadCoalescer;
+    private final ProjectBoardCache projectBoardCache;
+    private final AssignedTaskRepository assignedTaskRepository;
+    private final TaskSearchRepository taskSearchRepository;
+
+    @Value("${task.tasks.max-page-size:100}")
+    private int maxPageSize;
     private final EmailNotificationSender emailNotificationSender;
     private final EmailTemplateService emailTemplateService; // Add this
 
 
     /**
-     * Retrieves all tasks associated with a specific project.
+     * Retrieves one page of the tasks assigned to a user across all projects the user belongs to,
+     * sorted by deadline, tasks without one last, then by priority from urgent to low.
+     *
+     * @param userId UUID of the assignee
+     * @param statuses statuses to include, all open statuses if empty
+     * @param cursor cursor from the previous page, null for the first page
+     * @param limit page size, capped at {@code task.tasks.max-page-size}
+     * @return the page of tasks and the cursor of the next page
+     * @throws ResponseStatusException with 400 if the cursor is malformed
+     */
+    @Operation(
+            summary = "Get tasks assigned to user",
+            description = "Retrieves a page of the user's assigned tasks across projects using keyset pagination"
+    )
+    public CursorPageResponseDto<AssignedTaskDto> getAssignedTasks(UUID userId, Collection<TaskStatus> statuses,
+                                                                  String cursor, int limit) {
+        AssignedTaskRepository.Cursor after;
+        try {
+            after = cursor == null || cursor.isBlank() ? null : AssignedTaskRepository.Cursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+        int pageSize = Math.clamp(limit, 1, maxPageSize);
+        Collection<TaskStatus> included = statuses == null || statuses.isEmpty() ? TaskStatus.OPEN : statuses;
+
+        // One extra row tells whether there is a next page
+        List<AssignedTaskDto> tasks = assignedTaskRepository.findAssignedTasks(userId, included, after, pageSize + 1);
+        if (tasks.size() <= pageSize) {
+            return new CursorPageResponseDto<>(tasks, null);
+        }
+        List<AssignedTaskDto> page = tasks.subList(0, pageSize);
+        return new CursorPageResponseDto<>(page, AssignedTaskRepository.Cursor.after(page.getLast()).encode());
+    }
+
+    /**
+     * Searches the names and descriptions of the tasks in every project the user belongs to.
+     * Each word of the query matches as a prefix, and near misses in task names are found too.
+     *
+     * @param userId UUID of the searching user
+     * @param query free text, only letters and digits are considered
+     * @param page zero-based page number, negative values are treated as 0
+     * @param size page size, capped at {@code task.tasks.max-page-size}
+     * @return the page of matching tasks, most relevant first
+     * @see TaskSearchRepository
+     */
+    @Operation(
+            summary = "Search tasks",
+            description = "Full-text search over the names and descriptions of the user's tasks across projects"
+    )
+    public PageResponseDto<TaskSearchResultDto> searchTasks(UUID userId, String query, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.clamp(size, 1, maxPageSize);
+        List<String> words = query == null ? List.of() : Arrays.stream(SEARCH_WORD_SEPARATOR.split(query))
+                .filter(word -> !word.isEmpty())
+                .limit(MAX_SEARCH_WORDS)
+                .toList();
+        if (words.isEmpty()) {
+            return PageResponseDto.of(List.of(), pageNumber, pageSize, 0);
+        }
+        return taskSearchRepository.search(userId, words, pageNumber, pageSize);
+    }
+
+    /**
+     * Retrieves the tasks associated with a specific project. Concurrent identical calls share one query.
+     *
+     * @param projectId UUID of the project
+     * @param includeClosed whether done and cancelled tasks are included, otherwise only open tasks are read
+     * @return unmodifiable List of TaskEntity objects belonging to the project, shared with concurrent callers
+     */
+    @Operation(
+            summary = "Get project tasks",
+            description = "Retrieves the open tasks of a project, or all of them including closed ones"
+    )
+    public List<TaskEntity> getAllTasks(UUID projectId, boolean includeClosed) {
+        return projectReadCoalescer.getTasks(projectId, includeClosed, () -> includeClosed
+                ? taskRepository.findAllByProjectId(projectId)
+                : taskRepository.findOpenByProjectId(projectId));
+    }
+
+    /**
+     * Reads one page of a project's board, served from the project's board snapshot.
      *
      * @param projectId UUID of the project
-     * @return List of TaskEntity objects belonging to the project
+     * @param statuses statuses to include, all if empty
+     * @param priorities priorities to include, all if empty
+     * @param assigneeId only tasks of this assignee, all tasks if null
+     * @param sort order of the tasks
+     * @param page zero-based page number, negative values are treated as 0
+     * @param size page size, capped at {@code task.tasks.max-page-size}
+     * @return the page of tasks and the number of tasks by status
+     * @see ProjectBoardCache
      */
     @Operation(
-            summary = "Get all project tasks",
-            description = "Retrieves all tasks associated with a specific project"
+            summary = "Get project board",
+            description = "Filters, sorts and counts the tasks of a project from an in-memory board snapshot"
     )
-    public List<TaskEntity> getAllTasks(UUID projectId) {
-        return taskRepository.findAllByProjectId(projectId);
+    public ProjectBoardDto getProjectBoard(UUID projectId, Collection<TaskStatus> statuses,
+                                           Collection<TaskPriority> priorities, UUID assigneeId,
+                                           ProjectBoardSnapshot.Sort sort, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.clamp(size, 1, maxPageSize);
+        ProjectBoardSnapshot.Page board = projectBoardCache.getSnapshot(projectId)
+                .query(statuses, priorities, assigneeId, sort,
+                        (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE), pageSize);
+        return ProjectBoardDto.builder()
+                .tasksByStatus(board.tasksByStatus())
+                .tasks(PageResponseDto.of(board.tasks(), pageNumber, pageSize, board.totalElements()))
+                .build();
     }
 
     /**
@@ -109,13 +238,17 @@ public class TaskService {
     public TaskEntity createTask(UserEntity userEntity, TaskEntity taskEntity, UUID projectId) {
         ProjectEntity project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found"));
+        ProjectService.requireWritable(project);
+        // Ids are generated with the creation time, which bounds the partition the task is found in
+        taskEntity.setId(null);
+        taskEntity.setCreatedAt(LocalDateTime.now());
         taskEntity.setProject(project);
         taskEntity.setReporter(userEntity);
         taskEntity.setStatus(taskEntity.getStatus());
         if (taskEntity.getPriority() == null) {
             taskEntity.setPriority(taskEntity.getPriority());
         }
-        return taskRepository.save(taskEntity);
+        return saveAndEvictProjectReads(taskEntity);
     }
 
     /**
@@ -150,26 +283,26 @@ public class TaskService {
             )
     })
     public TaskEntity updateTask(UUID taskId , TaskEntity updatedTask) {
-        TaskEntity existingTask = getTaskById(taskId);
+        TaskEntity existingTask = getWritableTask(taskId);
 
         existingTask.setName(updatedTask.getName());
         existingTask.setDescription(updatedTask.getDescription());
         existingTask.setDeadline(updatedTask.getDeadline());
 
-        return taskRepository.save(existingTask);
+        return saveAndEvictProjectReads(existingTask);
     }
 
     /**
-     * Permanently deletes a task from the system.
+     * Deletes a task. The task is only marked as deleted and can be restored until the
+     * retention period ends, then the purge job removes it.
      *
      * @param taskId UUID of task to delete
      * @throws EntityNotFoundException if task not found
-     *
-     * @apiNote This operation cannot be undone. All task data will be permanently deleted.
+     * @see TombstonePurgeService
      */
     @Operation(
             summary = "Delete task",
-            description = "Permanently removes a task from the system"
+            description = "Marks a task as deleted, it is purged after the retention period"
     )
     @ApiResponses({
             @ApiResponse(
@@ -183,8 +316,43 @@ public class TaskService {
             )
     })
     public void deleteTask( UUID taskId) {
-        TaskEntity task = getTaskById(taskId);
+        TaskEntity task = getWritableTask(taskId);
         taskRepository.delete(task);
+        evictProjectReads(task);
+        projectBoardCache.taskDeleted(task);
+    }
+
+    /**
+     * Restores a deleted task that was not purged yet.
+     *
+     * @param taskId UUID of the deleted task
+     * @return the restored TaskEntity
+     * @throws EntityNotFoundException if the task is not deleted, already purged or its project is deleted
+     */
+    @Operation(
+            summary = "Restore task",
+            description = "Restores a deleted task"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Task restored successfully",
+                    content = @Content(schema = @Schema(implementation = TaskEntity.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Deleted task not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public TaskEntity restoreTask(UUID taskId) {
+        if (!tombstoneRepository.restoreTask(taskId)) {
+            throw new EntityNotFoundException("Deleted task not found");
+        }
+        TaskEntity task = getTaskById(taskId);
+        evictProjectReads(task);
+        projectBoardCache.taskSaved(task);
+        return task;
     }
 
     /**
@@ -215,10 +383,10 @@ public class TaskService {
             )
     })
     public TaskEntity updateTaskPriority(UUID taskId , TaskEntity taskUpdate) {
-        TaskEntity existingTask = getTaskById(taskId);
+        TaskEntity existingTask = getWritableTask(taskId);
         existingTask.setPriority(taskUpdate.getPriority());
 
-        return taskRepository.save(existingTask);
+        return saveAndEvictProjectReads(existingTask);
     }
 
     /**
@@ -249,10 +417,10 @@ public class TaskService {
             )
     })
     public TaskEntity updateTaskStatus(UUID taskId , TaskEntity taskUpdate) {
-        TaskEntity existingTask = getTaskById(taskId);
+        TaskEntity existingTask = getWritableTask(taskId);
         existingTask.setStatus(taskUpdate.getStatus());
 
-        return taskRepository.save(existingTask);
+        return saveAndEvictProjectReads(existingTask);
     }
 
     /**
@@ -271,7 +439,7 @@ public class TaskService {
             description = "Updates task assignee and sends notification"
     )
     public TaskEntity updateTaskAssignee(UUID taskId, TaskEntity taskUpdate) {
-        TaskEntity existingTask = getTaskById(taskId);
+        TaskEntity existingTask = getWritableTask(taskId);
 
         if (taskUpdate.getAssignee() != null) {
             UserEntity assignee = userRepository.findById(taskUpdate.getAssignee().getId())
@@ -290,6 +458,31 @@ public class TaskService {
         } else {
             existingTask.setAssignee(null);
         }
-        return taskRepository.save(existingTask);
+        return saveAndEvictProjectReads(existingTask);
+    }
+
+    /**
+     * Tasks of a project being purged accept no more changes, they would race the deletion job.
+     */
+    private TaskEntity getWritableTask(UUID taskId) {
+        TaskEntity task = getTaskById(taskId);
+        if (task.getProject() != null) {
+            ProjectService.requireWritable(task.getProject());
+        }
+        return task;
+    }
+
+    private TaskEntity saveAndEvictProjectReads(TaskEntity task) {
+        TaskEntity savedTask = taskRepository.save(task);
+        evictProjectReads(savedTask);
+        projectBoardCache.taskSaved(savedTask);
+        return savedTask;
+    }
+
+    private void evictProjectReads(TaskEntity task) {
+        if (task.getProject() != null) {
+            projectSummaryCache.evictProject(task.getProject().getId());
+            projectReadCoalescer.forgetTasks(task.getProject().getId());
+        }
     }
 }
@@ -0,0 +1,89 @@
+package com.code_galacticos.taskservice.service;
+
+import com.code_galacticos.taskservice.exception.ProjectNotFoundException;
+import com.code_galacticos.taskservice.repository.TombstoneRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * Removes soft-deleted rows once their retention period has passed. Runs off-peak and deletes in
+ * small batches, each committed on its own. Deleted projects are handed to the deletion jobs,
+ * which already remove a project's tasks and connections in chunks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Tombstone Purge Service", description = "Service for purging soft-deleted data")
+public class TombstonePurgeService {
+    private final TombstoneRepository tombstoneRepository;
+    private final DeletionJobService deletionJobService;
+
+    @Value("${task.purge.retention:P7D}")
+    private Duration retention;
+
+    @Value("${task.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${task.purge.batch-pause-ms:100}")
+    private long batchPauseMillis;
+
+    @Scheduled(cron = "${task.purge.cron:0 0 3 * * *}")
+    @Operation(
+            summary = "Purge deleted data",
+            description = "Hard-deletes projects, tasks and user connections deleted before the retention period"
+    )
+    public void purge() {
+        long retentionMillis = retention.toMillis();
+        try {
+            int projects = purgeProjects(retentionMillis);
+            int tasks = purgeInBatches(() -> tombstoneRepository.purgeTasks(retentionMillis, batchSize));
+            int connections = purgeInBatches(() -> tombstoneRepository.purgeConnections(retentionMillis, batchSize));
+            log.info("Purged deleted data: {} projects queued, {} tasks, {} connections", projects, tasks, connections);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Purge of deleted data interrupted");
+        }
+    }
+
+    private int purgeProjects(long retentionMillis) {
+        int queued = 0;
+        List<UUID> expired;
+        int queuedInBatch;
+        do {
+            expired = tombstoneRepository.findExpiredProjects(retentionMillis, batchSize);
+            queuedInBatch = 0;
+            for (UUID projectId : expired) {
+                try {
+                    deletionJobService.startProjectPurge(projectId, null);
+                    queuedInBatch++;
+                } catch (DataAccessException | ProjectNotFoundException e) {
+                    // Queued by another instance or restored in the meantime
+                    log.debug("Skipping purge of project {}: {}", projectId, e.getMessage());
+                }
+            }
+            queued += queuedInBatch;
+        } while (queuedInBatch > 0);
+        return queued;
+    }
+
+    private int purgeInBatches(IntSupplier batch) throws InterruptedException {
+        int total = 0;
+        int purged;
+        while ((purged = batch.getAsInt()) > 0) {
+            total += purged;
+            Thread.sleep(batchPauseMillis);
+        }
+        return total;
+    }
+}
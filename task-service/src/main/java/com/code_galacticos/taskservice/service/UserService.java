@@ -1,7 +1,9 @@
 package com.code_galacticos.taskservice.service;
 
+import com.code_galacticos.taskservice.cache.EntityCacheEvictor;
 import com.code_galacticos.taskservice.exception.UserAlreadyExistsException;
 import com.code_galacticos.taskservice.exception.UserNotFoundException;
+import com.code_galacticos.taskservice.model.entity.DeletionJobEntity;
 import com.code_galacticos.taskservice.model.entity.UserEntity;
 import com.code_galacticos.taskservice.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.ErrorResponse;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -22,6 +25,8 @@ import java.util.UUID;
 @Tag(name = "User Service", description = "Service for managing user accounts and profiles")
 public class UserService {
     private final UserRepository userRepository;
+    private final DeletionJobService deletionJobService;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     /**
      * Creates a new user in the system.
@@ -33,10 +38,11 @@ public class UserService {
      *                   - Last name
      *                   - Optional image URL
      * @return Created UserEntity with generated UUID
-     * @throws UserAlreadyExistsException if a user with the same email already exists
+     * @throws UserAlreadyExistsException if another user with the same email already exists
      *
      * @apiNote The email address is used as a unique identifier for users in the system,
-     * alongside the UUID
+     * alongside the UUID. A user created by the bulk import for the same Firebase uid and email
+     * already has this UUID, it is returned with the photo filled in if it has none.
      *
      * Example:
      * {@code
@@ -67,12 +73,28 @@ public class UserService {
             )
     })
     public UserEntity createUser(UserEntity userEntity) {
+        UserEntity imported = Optional.ofNullable(userEntity.getId()).flatMap(userRepository::findById)
+                .filter(existing -> existing.getEmail().equals(userEntity.getEmail()))
+                .orElse(null);
+        if (imported != null) {
+            return takeOver(imported, userEntity);
+        }
         if (userRepository.existsByEmail(userEntity.getEmail())) {
             throw new UserAlreadyExistsException("User with email " + userEntity.getEmail() + " already exists");
         }
         return userRepository.save(userEntity);
     }
 
+    private UserEntity takeOver(UserEntity imported, UserEntity signedIn) {
+        if (imported.getImageUrl() != null || signedIn.getImageUrl() == null) {
+            return imported;
+        }
+        imported.setImageUrl(signedIn.getImageUrl());
+        UserEntity savedUser = userRepository.save(imported);
+        entityCacheEvictor.evictUser(imported.getId());
+        return savedUser;
+    }
+
     /**
      * Retrieves a user by their UUID.
      *
@@ -205,33 +227,37 @@ public class UserService {
         existingUser.setLastName(userDetails.getLastName());
         existingUser.setImageUrl(userDetails.getImageUrl());
 
-        return userRepository.save(existingUser);
+        UserEntity savedUser = userRepository.save(existingUser);
+        entityCacheEvictor.evictUser(userId);
+        return savedUser;
     }
 
     /**
-     * Permanently deletes a user from the system.
-     * This operation will:
+     * Permanently deletes a user from the system in the background.
+     * The deletion job will:
+     * - Remove user from all projects, in chunks
+     * - Clear the user from assigned and reported tasks, in chunks
      * - Remove user profile
-     * - Remove user from all projects (handled by DB cascade)
-     * - Remove user's task assignments (handled by DB cascade)
      *
      * @param userId UUID of user to delete
+     * @param requestedBy UUID of the user starting the deletion, who can poll the job
+     * @return the deletion job, poll it to follow the progress
      * @throws UserNotFoundException if user with given ID doesn't exist
      *
      * @apiNote
      * - This operation cannot be undone
      * - Make sure to handle user's projects and tasks before deletion
      * - Consider using soft delete for production systems
+     * @see DeletionJobService
      */
-    @Transactional
     @Operation(
             summary = "Delete user",
-            description = "Permanently removes a user from the system"
+            description = "Permanently removes a user from the system in the background"
     )
     @ApiResponses({
             @ApiResponse(
-                    responseCode = "204",
-                    description = "User deleted successfully"
+                    responseCode = "202",
+                    description = "User deletion started"
             ),
             @ApiResponse(
                     responseCode = "404",
@@ -239,11 +265,8 @@ public class UserService {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    public void deleteUser(UUID userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new UserNotFoundException("User not found with id: " + userId);
-        }
-        userRepository.deleteById(userId);
+    public DeletionJobEntity deleteUser(UUID userId, UUID requestedBy) {
+        return deletionJobService.startUserDeletion(userId, requestedBy);
     }
 
     /**
@@ -0,0 +1,12 @@
+-- Most reads only look at open tasks. Partial indexes over them stay small and hot while done and
+-- cancelled history grows, queries must repeat the predicate literally to use them.
+-- Runs outside a transaction.
+
+-- Project boards and the open task counts of the project listing
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_project_open ON task_table(project_uuid, task_status)
+    WHERE deleted_at IS NULL AND task_status NOT IN ('DONE', 'CANCELLED');
+
+-- Assigned-to-me inbox, in its sort order so a page is read without sorting the assignee's tasks
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_assignee_open
+    ON task_table(assignation_uuid, (COALESCE(deadline, 'infinity'::TIMESTAMP)), priority DESC, task_uuid)
+    WHERE deleted_at IS NULL AND task_status NOT IN ('DONE', 'CANCELLED');
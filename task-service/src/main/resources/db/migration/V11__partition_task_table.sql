@@ -0,0 +1,96 @@
+-- Range partitioning of task_table by created_at, one partition per month. Queries bounded by
+-- created_at only scan the matching partitions, vacuum and index maintenance work per partition,
+-- and old months can be detached and archived, see TaskPartitionMaintenanceService.
+--
+-- Rewrites task_table under an exclusive lock, run it in a maintenance window: it is only applied to
+-- a non-empty task_table when started with spring.flyway.placeholders.partition-task-table=true,
+-- otherwise startup fails here. Nothing references task_table by foreign key.
+-- The primary key has to include the partition key, task ids stay unique because they are generated.
+-- Indexes created later on task_table cannot be built CONCURRENTLY on the parent: build them
+-- concurrently on each partition, then create the parent index ON ONLY task_table and attach them.
+
+DO $$
+BEGIN
+    IF NOT ${partition-task-table} AND EXISTS (SELECT 1 FROM task_table) THEN
+        RAISE EXCEPTION 'V11 partitions task_table and rewrites every task, run it in a maintenance window '
+            'with spring.flyway.placeholders.partition-task-table=true';
+    END IF;
+END
+$$;
+
+CREATE SCHEMA IF NOT EXISTS task_archive;
+
+LOCK TABLE task_table IN ACCESS EXCLUSIVE MODE;
+
+CREATE TABLE task_table_partitioned (
+    task_uuid UUID NOT NULL DEFAULT uuid_generate_v7(),
+    task_name VARCHAR(255) NOT NULL,
+    task_description TEXT,
+    task_status task_status NOT NULL DEFAULT 'TODO',
+    priority task_priority NOT NULL DEFAULT 'MEDIUM',
+    deadline TIMESTAMP,
+    assignation_uuid UUID REFERENCES user_table(user_uuid) ON DELETE SET NULL,
+    reporter_uuid UUID REFERENCES user_table(user_uuid) ON DELETE SET NULL,
+    project_uuid UUID REFERENCES project_table(project_uuid) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP,
+    search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(task_name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(task_description, '')), 'B')) STORED,
+    PRIMARY KEY (task_uuid, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Creates the partition of the month containing the given day, named task_table_pYYYYMM.
+-- Returns false if it already exists. Fails if a detached table of that name is left in public.
+CREATE OR REPLACE FUNCTION ensure_task_partition(day DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    month_start DATE := date_trunc('month', day);
+    partition_name TEXT := 'task_table_p' || to_char(month_start, 'YYYYMM');
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+               WHERE i.inhparent = CAST('public.task_table' AS regclass) AND c.relname = partition_name) THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE public.%I PARTITION OF task_table FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, month_start, (month_start + INTERVAL '1 month')::DATE);
+    RETURN TRUE;
+END
+$$ LANGUAGE plpgsql;
+
+-- The function resolves task_table by name, partitions are created before the swap under the final name
+ALTER TABLE task_table RENAME TO task_table_unpartitioned;
+ALTER TABLE task_table_partitioned RENAME TO task_table;
+
+SELECT ensure_task_partition(month::DATE)
+FROM generate_series(
+        date_trunc('month', LEAST((SELECT min(created_at) FROM task_table_unpartitioned), LOCALTIMESTAMP)),
+        date_trunc('month', LOCALTIMESTAMP) + INTERVAL '3 months',
+        INTERVAL '1 month') AS month;
+
+INSERT INTO task_table (task_uuid, task_name, task_description, task_status, priority, deadline,
+                        assignation_uuid, reporter_uuid, project_uuid, created_at, deleted_at)
+SELECT task_uuid, task_name, task_description, task_status, priority, deadline,
+       assignation_uuid, reporter_uuid, project_uuid, COALESCE(created_at, LOCALTIMESTAMP), deleted_at
+FROM task_table_unpartitioned;
+
+DROP TABLE task_table_unpartitioned;
+
+ALTER TABLE task_table RENAME CONSTRAINT task_table_partitioned_pkey TO task_table_pkey;
+ALTER TABLE task_table RENAME CONSTRAINT task_table_partitioned_assignation_uuid_fkey TO task_table_assignation_uuid_fkey;
+ALTER TABLE task_table RENAME CONSTRAINT task_table_partitioned_reporter_uuid_fkey TO task_table_reporter_uuid_fkey;
+ALTER TABLE task_table RENAME CONSTRAINT task_table_partitioned_project_uuid_fkey TO task_table_project_uuid_fkey;
+
+-- Same indexes as before, built per partition after the copy
+CREATE INDEX idx_task_project ON task_table(project_uuid);
+CREATE INDEX idx_task_assignee_status_deadline ON task_table(assignation_uuid, task_status, deadline);
+CREATE INDEX idx_task_reporter ON task_table(reporter_uuid);
+CREATE INDEX idx_task_tombstone ON task_table(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_task_search ON task_table USING GIN (search_vector) WHERE deleted_at IS NULL;
+CREATE INDEX idx_task_name_trgm ON task_table USING GIN (task_name gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_task_project_open ON task_table(project_uuid, task_status)
+    WHERE deleted_at IS NULL AND task_status NOT IN ('DONE', 'CANCELLED');
+CREATE INDEX idx_task_assignee_open
+    ON task_table(assignation_uuid, (COALESCE(deadline, 'infinity'::TIMESTAMP)), priority DESC, task_uuid)
+    WHERE deleted_at IS NULL AND task_status NOT IN ('DONE', 'CANCELLED');
+
+ANALYZE task_table;
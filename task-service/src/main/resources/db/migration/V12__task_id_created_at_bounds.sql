@@ -0,0 +1,44 @@
+-- Lookups by task id carry no created_at and scan every partition of task_table. The id of a task is
+-- a version 7 UUID generated when the task is created, so its timestamp tells the partition: a
+-- created_at bound derived from the id lets the planner prune the other partitions, also in
+-- prepared statements, where the bound is computed once the id is known.
+--
+-- created_at is a local timestamp and the id timestamp is in UTC, so the bound allows a day either
+-- way. The check constraint keeps every row within its bound, adding it fails if an existing row is
+-- not; ids are visible in links, emails and exports and are not changed here. Ids from before
+-- version 7 have no timestamp, their bound is unlimited.
+--
+-- The primary key (task_uuid, created_at) does not keep task ids unique across partitions. They stay
+-- unique because they are only ever generated, by uuid_generate_v7 or UuidV7, and never taken from
+-- requests; the constraint limits a duplicate of a version 7 id to the same or an adjacent partition.
+
+-- Timestamp of a version 7 UUID as a timestamp without time zone in UTC, NULL for other versions
+CREATE OR REPLACE FUNCTION uuid_v7_time(id UUID) RETURNS TIMESTAMP AS $$
+SELECT CASE WHEN substr(CAST(id AS TEXT), 15, 1) = '7'
+            THEN TIMESTAMP 'epoch'
+                 + CAST(CAST('x' || substr(replace(CAST(id AS TEXT), '-', ''), 1, 12) AS BIT(48)) AS BIGINT)
+                   * INTERVAL '1 millisecond'
+       END
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Version 7 UUID with the given time instead of the clock, for rows created with a past timestamp
+CREATE OR REPLACE FUNCTION uuid_generate_v7(at TIMESTAMP) RETURNS UUID AS $$
+SELECT encode(
+    set_bit(set_bit(
+        overlay(uuid_send(uuid_generate_v4())
+                PLACING substring(int8send(floor(extract(epoch FROM at) * 1000)::BIGINT) FROM 3)
+                FROM 1 FOR 6),
+        52, 1), 53, 1),
+    'hex')::UUID
+$$ LANGUAGE sql VOLATILE;
+
+CREATE OR REPLACE FUNCTION task_created_from(task_id UUID) RETURNS TIMESTAMP AS $$
+SELECT COALESCE(uuid_v7_time(task_id) - INTERVAL '1 day', '-infinity')
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION task_created_to(task_id UUID) RETURNS TIMESTAMP AS $$
+SELECT COALESCE(uuid_v7_time(task_id) + INTERVAL '1 day', 'infinity')
+$$ LANGUAGE sql IMMUTABLE;
+
+ALTER TABLE task_table ADD CONSTRAINT task_table_created_at_id_check
+    CHECK (created_at BETWEEN task_created_from(task_uuid) AND task_created_to(task_uuid));
@@ -0,0 +1,4 @@
+-- User who started a deletion job, its progress is only shown to that user and to the owner of the
+-- project being purged. NULL for purges queued by the retention job. No foreign key: a user deletion
+-- is requested by the user being deleted.
+ALTER TABLE deletion_job ADD COLUMN IF NOT EXISTS requested_by UUID;
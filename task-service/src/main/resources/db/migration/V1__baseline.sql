@@ -1,3 +1,5 @@
+-- Schema as first deployed. Databases created before migrations were introduced are baselined at
+-- this version and only receive the later migrations.
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
 CREATE TYPE project_status AS ENUM ('ACTIVE', 'COMPLETED', 'ON_HOLD', 'CANCELLED');
@@ -0,0 +1,38 @@
+-- Background deletion of projects and users in chunks. Statements are idempotent because
+-- databases started with ddl-auto=update may already have some of these objects.
+ALTER TYPE project_status ADD VALUE IF NOT EXISTS 'DELETING';
+
+DO $$
+BEGIN
+    CREATE TYPE deletion_target AS ENUM ('PROJECT', 'USER');
+EXCEPTION
+    WHEN duplicate_object THEN NULL;
+END $$;
+
+DO $$
+BEGIN
+    CREATE TYPE deletion_job_status AS ENUM ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED');
+EXCEPTION
+    WHEN duplicate_object THEN NULL;
+END $$;
+
+CREATE TABLE IF NOT EXISTS deletion_job (
+    deletion_job_uuid UUID DEFAULT uuid_generate_v4() PRIMARY KEY,
+    target_type deletion_target NOT NULL,
+    target_uuid UUID NOT NULL,
+    job_status deletion_job_status NOT NULL DEFAULT 'PENDING',
+    tasks_processed BIGINT NOT NULL DEFAULT 0,
+    connections_deleted BIGINT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    lease_owner VARCHAR(100),
+    lease_expires_at TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_deletion_job_active_target ON deletion_job(target_type, target_uuid)
+    WHERE job_status IN ('PENDING', 'RUNNING');
+CREATE INDEX IF NOT EXISTS idx_deletion_job_active ON deletion_job(created_at)
+    WHERE job_status IN ('PENDING', 'RUNNING');
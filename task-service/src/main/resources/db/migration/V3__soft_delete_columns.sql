@@ -0,0 +1,4 @@
+-- Soft delete: rows with deleted_at set are tombstones until the purge job removes them.
+ALTER TABLE project_table ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+ALTER TABLE task_table ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+ALTER TABLE user_proj_connection ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
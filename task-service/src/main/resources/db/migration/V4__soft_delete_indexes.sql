@@ -0,0 +1,15 @@
+-- Built CONCURRENTLY so writes continue on large tables, Flyway runs this script outside a transaction.
+-- A build that fails leaves an INVALID index behind: drop it before retrying the migration.
+
+-- Only live connections have to be unique, a user removed from a project can be added again
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_user_proj_connection_live
+    ON user_proj_connection(project_uuid, user_uuid)
+    WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_proj_user_live
+    ON user_proj_connection(user_uuid, project_uuid) INCLUDE (user_role)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_tombstone ON project_table(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_tombstone ON task_table(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_proj_tombstone ON user_proj_connection(deleted_at)
+    WHERE deleted_at IS NOT NULL;
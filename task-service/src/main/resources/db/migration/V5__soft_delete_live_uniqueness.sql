@@ -0,0 +1,2 @@
+-- Replaced by uq_user_proj_connection_live, which ignores tombstones
+ALTER TABLE user_proj_connection DROP CONSTRAINT IF EXISTS user_proj_connection_project_uuid_user_uuid_key;
@@ -0,0 +1,5 @@
+-- Serves the assigned-to-me inbox and, through its leading column, the assignee foreign key,
+-- which makes the single-column assignee index redundant. Runs outside a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_assignee_status_deadline
+    ON task_table(assignation_uuid, task_status, deadline);
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_assignee;
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 'simple' keeps words as written: task names mix languages and identifiers, stemming would not fit.
+-- Adding a stored generated column rewrites task_table, run it in a maintenance window.
+ALTER TABLE task_table ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(task_name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(task_description, '')), 'B')) STORED;
@@ -0,0 +1,6 @@
+-- Task search: full-text and prefix matches on name and description, typo-tolerant matches on the name.
+-- Runs outside a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_search ON task_table USING GIN (search_vector)
+    WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_name_trgm ON task_table USING GIN (task_name gin_trgm_ops)
+    WHERE deleted_at IS NULL;
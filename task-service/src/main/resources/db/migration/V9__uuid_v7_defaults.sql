@@ -0,0 +1,19 @@
+-- Time-ordered UUID (RFC 9562 version 7): the Unix millisecond timestamp replaces the first 48 bits
+-- of a random v4 UUID and the version nibble is changed from 4 to 7. New keys append to the right
+-- edge of the primary key index instead of landing on random pages. Same layout as UuidV7 in Java.
+-- Existing ids are kept: they are referenced by foreign keys, links and notification emails.
+-- The random part of the primary key indexes can be compacted off-peak with REINDEX INDEX CONCURRENTLY.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+SELECT encode(
+    set_bit(set_bit(
+        overlay(uuid_send(uuid_generate_v4())
+                PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                FROM 1 FOR 6),
+        52, 1), 53, 1),
+    'hex')::UUID
+$$ LANGUAGE sql VOLATILE;
+
+ALTER TABLE project_table ALTER COLUMN project_uuid SET DEFAULT uuid_generate_v7();
+ALTER TABLE task_table ALTER COLUMN task_uuid SET DEFAULT uuid_generate_v7();
+ALTER TABLE user_proj_connection ALTER COLUMN user_proj_con_uuid SET DEFAULT uuid_generate_v7();
+ALTER TABLE deletion_job ALTER COLUMN deletion_job_uuid SET DEFAULT uuid_generate_v7();
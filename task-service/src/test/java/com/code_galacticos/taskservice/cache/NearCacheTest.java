@@ -0,0 +1,62 @@
+package com.code_galacticos.taskservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NearCacheTest {
+
+    @Test
+    void cachesLoadedValue() {
+        NearCache<String, String> cache = new NearCache<>(Duration.ofMinutes(1), 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", key -> "v" + loads.incrementAndGet());
+        String cached = cache.get("key", key -> "v" + loads.incrementAndGet());
+
+        assertEquals("v1", cached);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void doesNotCacheValueLoadedDuringInvalidation() {
+        NearCache<String, String> cache = new NearCache<>(Duration.ofMinutes(1), 100);
+
+        String stale = cache.get("key", key -> {
+            // An invalidation, e.g. broadcast by another instance, arrives while the old value is read
+            cache.invalidate(key);
+            return "old";
+        });
+        String reloaded = cache.get("key", key -> "new");
+
+        assertEquals("old", stale);
+        assertEquals("new", reloaded);
+    }
+
+    @Test
+    void invalidationOfOtherKeysKeepsValue() {
+        NearCache<Integer, String> cache = new NearCache<>(Duration.ofMinutes(1), 100);
+
+        // 0 and 1 fall into different stripes
+        String loaded = cache.get(0, key -> {
+            cache.invalidate(1);
+            return "zero";
+        });
+
+        assertEquals("zero", loaded);
+        assertEquals("zero", cache.get(0, key -> "reloaded"));
+    }
+
+    @Test
+    void expiresAfterTtl() throws InterruptedException {
+        NearCache<String, String> cache = new NearCache<>(Duration.ofMillis(1), 100);
+
+        cache.get("key", key -> "old");
+        Thread.sleep(5);
+
+        assertEquals("new", cache.get("key", key -> "new"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.code_galacticos.taskservice.cache;
+
+import com.code_galacticos.taskservice.model.dto.task.BoardTaskDto;
+import com.code_galacticos.taskservice.model.enums.TaskPriority;
+import com.code_galacticos.taskservice.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProjectBoardSnapshotTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0, 0, 123_456_000);
+    private static final UUID ALICE = UUID.randomUUID();
+    private static final UUID BOB = UUID.randomUUID();
+
+    private final ProjectBoardSnapshot.Row urgent = row("urgent", TaskStatus.TODO, TaskPriority.URGENT, NOW.plusDays(2), ALICE);
+    private final ProjectBoardSnapshot.Row soon = row("soon", TaskStatus.IN_PROGRESS, TaskPriority.LOW, NOW.plusDays(1), BOB);
+    private final ProjectBoardSnapshot.Row someday = row("someday", TaskStatus.TODO, TaskPriority.HIGH, null, null);
+    private final ProjectBoardSnapshot.Row done = row("done", TaskStatus.DONE, TaskPriority.MEDIUM, NOW, ALICE);
+
+    private final ProjectBoardSnapshot snapshot = new ProjectBoardSnapshot.Builder()
+            .add(urgent).add(soon).add(someday).add(done)
+            .build();
+
+    @Test
+    void sortsByDeadlineWithoutDeadlineLast() {
+        ProjectBoardSnapshot.Page page = snapshot.query(List.of(), List.of(), null, ProjectBoardSnapshot.Sort.DEADLINE, 0, 10);
+
+        assertEquals(List.of("done", "soon", "urgent", "someday"), names(page));
+        assertEquals(4, page.totalElements());
+    }
+
+    @Test
+    void filtersAndCountsStatusesRegardlessOfStatusFilter() {
+        ProjectBoardSnapshot.Page page = snapshot.query(List.of(TaskStatus.TODO), List.of(), ALICE,
+                ProjectBoardSnapshot.Sort.PRIORITY, 0, 10);
+
+        assertEquals(List.of("urgent"), names(page));
+        assertEquals(1L, page.tasksByStatus().get(TaskStatus.TODO));
+        assertEquals(1L, page.tasksByStatus().get(TaskStatus.DONE));
+        assertEquals(0L, page.tasksByStatus().get(TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void pagesThroughMatchingTasks() {
+        ProjectBoardSnapshot.Page page = snapshot.query(List.of(), List.of(), null, ProjectBoardSnapshot.Sort.PRIORITY, 1, 2);
+
+        assertEquals(List.of("someday", "done"), names(page));
+        assertEquals(4, page.totalElements());
+    }
+
+    @Test
+    void keepsColumnValues() {
+        BoardTaskDto task = snapshot.query(List.of(TaskStatus.DONE), List.of(), null,
+                ProjectBoardSnapshot.Sort.DEADLINE, 0, 1).tasks().getFirst();
+
+        assertEquals(done.id(), task.getTaskId());
+        assertEquals(NOW, task.getDeadline());
+        assertEquals(ALICE, task.getAssigneeId());
+        assertEquals(TaskPriority.MEDIUM, task.getPriority());
+    }
+
+    @Test
+    void appliesChangesToACopy() {
+        UUID carol = UUID.randomUUID();
+        ProjectBoardSnapshot changed = snapshot
+                .withTask(new ProjectBoardSnapshot.Row(someday.id(), "someday", TaskStatus.IN_REVIEW,
+                        TaskPriority.HIGH, null, carol, someday.createdAt()))
+                .withoutTask(urgent.id())
+                .withTask(row("new", TaskStatus.TODO, TaskPriority.LOW, null, null));
+
+        ProjectBoardSnapshot.Page page = changed.query(List.of(), List.of(), carol, ProjectBoardSnapshot.Sort.DEADLINE, 0, 10);
+        assertEquals(List.of("someday"), names(page));
+        assertEquals(TaskStatus.IN_REVIEW, page.tasks().getFirst().getStatus());
+        assertEquals(4, changed.size());
+        assertEquals(4, snapshot.size());
+        assertNull(snapshot.query(List.of(), List.of(), carol, ProjectBoardSnapshot.Sort.DEADLINE, 0, 10)
+                .tasks().stream().findFirst().orElse(null));
+    }
+
+    private static ProjectBoardSnapshot.Row row(String name, TaskStatus status, TaskPriority priority,
+                                                LocalDateTime deadline, UUID assigneeId) {
+        return new ProjectBoardSnapshot.Row(UUID.randomUUID(), name, status, priority, deadline, assigneeId, NOW);
+    }
+
+    private static List<String> names(ProjectBoardSnapshot.Page page) {
+        return page.tasks().stream().map(BoardTaskDto::getName).toList();
+    }
+}
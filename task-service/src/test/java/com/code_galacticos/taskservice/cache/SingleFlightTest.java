@@ -0,0 +1,87 @@
+package com.code_galacticos.taskservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    void concurrentCallSharesRunningLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.get("key", () -> {
+            loading.countDown();
+            await(release);
+            return "v" + loads.incrementAndGet();
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+                flight.get("key", () -> "v" + loads.incrementAndGet()));
+        // The follower counts itself as coalesced before it blocks on the leader
+        while (calls("coalesced") == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals("v1", leader.get(5, TimeUnit.SECONDS));
+        assertSame(leader.get(), follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(1, calls("leader"));
+    }
+
+    @Test
+    void finishedLoadIsNotKept() {
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.get("key", () -> "v" + loads.incrementAndGet());
+        String second = flight.get("key", () -> "v" + loads.incrementAndGet());
+
+        assertEquals("v2", second);
+    }
+
+    @Test
+    void forgottenLoadIsNotJoined() {
+        String value = flight.get("key", () -> {
+            // A write commits while the old value is read, the next reader must not join this load
+            flight.forget("key");
+            assertEquals("new", flight.get("key", () -> "new"));
+            return "old";
+        });
+
+        assertEquals("old", value);
+        assertEquals(2, calls("leader"));
+    }
+
+    @Test
+    void failedLoadIsRethrown() {
+        assertThrows(IllegalStateException.class, () -> flight.get("key", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals("ok", flight.get("key", () -> "ok"));
+    }
+
+    private double calls(String result) {
+        return meterRegistry.get("workhub.single-flight.calls").tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.code_galacticos.taskservice.config;
+
+import com.code_galacticos.taskservice.cache.ProjectAccessCache;
+import com.code_galacticos.taskservice.controller.TaskController;
+import com.code_galacticos.taskservice.model.enums.UserRole;
+import com.code_galacticos.taskservice.repository.TaskRepository;
+import com.code_galacticos.taskservice.repository.UserProjectConnectionRepository;
+import com.code_galacticos.taskservice.repository.projection.ProjectRoleView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the per-request cost of the project authorization check once the user's ACL is cached,
+ * for a user who is a member of 200 projects.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=ProjectAccessInterceptorBenchmark}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProjectAccessInterceptorBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+    private static final int PROJECTS_PER_USER = 200;
+
+    @Test
+    void cachedCheckCostsMicroseconds() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        List<ProjectRoleView> memberships = new ArrayList<>();
+        for (int i = 0; i < PROJECTS_PER_USER; i++) {
+            memberships.add(new Membership(UUID.randomUUID(), UserRole.MEMBER));
+        }
+        UUID projectId = memberships.get(PROJECTS_PER_USER / 2).getProjectId();
+
+        UserProjectConnectionRepository connections = mock(UserProjectConnectionRepository.class);
+        when(connections.findProjectRolesByUserId(any())).thenReturn(memberships);
+        TaskRepository tasks = mock(TaskRepository.class);
+        when(tasks.findProjectIdById(any())).thenReturn(Optional.of(projectId));
+        ProjectAccessInterceptor interceptor = new ProjectAccessInterceptor(
+                new ProjectAccessCache(connections, tasks, Duration.ofMinutes(5), 10_000));
+
+        TaskController controller = mock(TaskController.class);
+        HandlerMethod byProject = new HandlerMethod(controller, TaskController.class.getMethod("getAllTasks", UUID.class));
+        HandlerMethod byTask = new HandlerMethod(controller, TaskController.class.getMethod("getTaskById", UUID.class));
+
+        report("projectId", interceptor, request(userId, Map.of("projectId", projectId.toString())), byProject);
+        report("taskId", interceptor, request(userId, Map.of("taskId", taskId.toString())), byTask);
+    }
+
+    private static void report(String label, ProjectAccessInterceptor interceptor,
+                               MockHttpServletRequest request, HandlerMethod handler) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        for (int i = 0; i < WARMUP; i++) {
+            assertTrue(interceptor.preHandle(request, response, handler));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            interceptor.preHandle(request, response, handler);
+        }
+        double nanosPerCheck = (System.nanoTime() - start) / (double) ITERATIONS;
+        System.out.printf("%-10s %8.1f ns per check%n", label, nanosPerCheck);
+        assertTrue(nanosPerCheck < 10_000, "check took " + nanosPerCheck + " ns");
+    }
+
+    private static MockHttpServletRequest request(UUID userId, Map<String, String> pathVariables) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("user-id", userId);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, pathVariables);
+        return request;
+    }
+
+    private record Membership(UUID projectId, UserRole role) implements ProjectRoleView {
+        @Override
+        public UUID getProjectId() {
+            return projectId;
+        }
+
+        @Override
+        public UserRole getRole() {
+            return role;
+        }
+    }
+}
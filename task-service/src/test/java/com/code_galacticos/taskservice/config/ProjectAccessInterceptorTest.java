@@ -0,0 +1,61 @@
+package com.code_galacticos.taskservice.config;
+
+import com.code_galacticos.taskservice.cache.ProjectAccessCache;
+import com.code_galacticos.taskservice.controller.TaskController;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ProjectAccessInterceptorTest {
+
+    private final ProjectAccessCache projectAccessCache = mock(ProjectAccessCache.class);
+    private final ProjectAccessInterceptor interceptor = new ProjectAccessInterceptor(projectAccessCache);
+    private final TaskController controller = mock(TaskController.class);
+
+    @Test
+    void malformedProjectIdIsRejected() {
+        HandlerMethod byProject = handler("getProjectBoard");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request(Map.of("projectId", "not-a-uuid")), response, byProject));
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(projectAccessCache);
+    }
+
+    @Test
+    void malformedTaskIdIsRejected() {
+        HandlerMethod byTask = handler("getTaskById");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request(Map.of("taskId", "not-a-uuid")), response, byTask));
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(projectAccessCache);
+    }
+
+    private HandlerMethod handler(String name) {
+        Method method = Arrays.stream(TaskController.class.getMethods())
+                .filter(m -> m.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+        return new HandlerMethod(controller, method);
+    }
+
+    private static MockHttpServletRequest request(Map<String, String> pathVariables) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("user-id", UUID.randomUUID());
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, pathVariables);
+        return request;
+    }
+}
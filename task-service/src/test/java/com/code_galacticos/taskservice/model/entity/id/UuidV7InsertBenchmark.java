@@ -0,0 +1,84 @@
+package com.code_galacticos.taskservice.model.entity.id;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares insert throughput and primary key index size of random v4 ids against time-ordered v7
+ * ids, on a table shaped like task_table's key. Needs a running PostgreSQL, by default the one from
+ * application.properties.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=UuidV7InsertBenchmark}, optionally with
+ * {@code -Dbenchmark.jdbc-url=... -Dbenchmark.jdbc-user=... -Dbenchmark.jdbc-password=...}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UuidV7InsertBenchmark {
+
+    private static final int ROWS = 2_000_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Test
+    void compareInsertThroughputAndIndexSize() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc-url", "jdbc:postgresql://localhost:5432/progress-automation-db"),
+                System.getProperty("benchmark.jdbc-user", "postgres"),
+                System.getProperty("benchmark.jdbc-password", "123456"))) {
+            System.out.printf("%-8s %12s %14s %14s %12s%n", "ids", "rows/sec", "pkey size(MB)", "table size(MB)", "leaf fill");
+            run(connection, "v4", UUID::randomUUID);
+            run(connection, "v7", UuidV7::generate);
+        }
+    }
+
+    private void run(Connection connection, String name, Supplier<UUID> ids) throws SQLException {
+        String table = "uuid_benchmark_" + name;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table
+                    + " (id UUID PRIMARY KEY, created_at TIMESTAMP DEFAULT LOCALTIMESTAMP, name TEXT)");
+        }
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id, name) VALUES (?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "task " + i);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+            try (ResultSet sizes = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey'), pg_relation_size('" + table + "')")) {
+                sizes.next();
+                System.out.printf("%-8s %12.0f %14.1f %14.1f %12s%n", name, ROWS / seconds,
+                        sizes.getLong(1) / 1048576.0, sizes.getLong(2) / 1048576.0, leafFill(statement, table));
+            }
+            statement.execute("DROP TABLE " + table);
+        }
+    }
+
+    /**
+     * Average leaf page density from pgstattuple, if the extension is installed.
+     */
+    private static String leafFill(Statement statement, String table) {
+        try (ResultSet stats = statement.executeQuery("SELECT avg_leaf_density FROM pgstatindex('" + table + "_pkey')")) {
+            stats.next();
+            return stats.getDouble(1) + "%";
+        } catch (SQLException e) {
+            return "n/a";
+        }
+    }
+}
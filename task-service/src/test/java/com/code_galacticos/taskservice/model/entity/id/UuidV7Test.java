@@ -0,0 +1,34 @@
+package com.code_galacticos.taskservice.model.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    void generatesVersion7WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = UuidV7.timestampMillis(id);
+        assertTrue(timestamp >= before && timestamp <= after + 1, "timestamp " + timestamp);
+    }
+
+    @Test
+    void idsAreStrictlyIncreasingInTextualOrder() {
+        // PostgreSQL compares uuids bytewise, which matches the order of their text form
+        String previous = UuidV7.generate().toString();
+        for (int i = 0; i < 100_000; i++) {
+            String next = UuidV7.generate().toString();
+            assertTrue(next.compareTo(previous) > 0, previous + " >= " + next);
+            previous = next;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.code_galacticos.taskservice.rabbit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RabbitMQConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RabbitAutoConfiguration.class))
+            .withUserConfiguration(RabbitMQConfig.class);
+
+    @Test
+    void injectedTemplatePropagatesTraces() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(RabbitTemplate.class);
+            RabbitTemplate rabbitTemplate = context.getBean(RabbitTemplate.class);
+            assertThat(ReflectionTestUtils.getField(rabbitTemplate, "observationEnabled")).isEqualTo(true);
+        });
+    }
+}
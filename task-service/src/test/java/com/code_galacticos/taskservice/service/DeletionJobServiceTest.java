@@ -0,0 +1,74 @@
+package com.code_galacticos.taskservice.service;
+
+import com.code_galacticos.taskservice.cache.EntityCacheEvictor;
+import com.code_galacticos.taskservice.cache.ProjectBoardCache;
+import com.code_galacticos.taskservice.cache.ProjectMembershipIndex;
+import com.code_galacticos.taskservice.model.entity.DeletionJobEntity;
+import com.code_galacticos.taskservice.model.enums.DeletionTarget;
+import com.code_galacticos.taskservice.repository.ChunkedDeletionRepository;
+import com.code_galacticos.taskservice.repository.DeletionJobRepository;
+import com.code_galacticos.taskservice.repository.TombstoneRepository;
+import com.code_galacticos.taskservice.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DeletionJobServiceTest {
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final DeletionJobRepository deletionJobRepository = mock(DeletionJobRepository.class);
+    private final TombstoneRepository tombstoneRepository = mock(TombstoneRepository.class);
+    private final DeletionJobService deletionJobService = new DeletionJobService(deletionJobRepository,
+            mock(ChunkedDeletionRepository.class), tombstoneRepository, mock(UserRepository.class),
+            mock(ProjectMembershipIndex.class), mock(EntityCacheEvictor.class), mock(ProjectBoardCache.class),
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void requesterSeesJob() {
+        DeletionJobEntity job = job(DeletionTarget.PROJECT, PROJECT_ID, USER_ID);
+
+        assertSame(job, deletionJobService.getJob(JOB_ID, USER_ID));
+    }
+
+    @Test
+    void ownerSeesPurgeOfDeletedProject() {
+        DeletionJobEntity job = job(DeletionTarget.PROJECT, PROJECT_ID, null);
+        when(tombstoneRepository.isDeletedProjectOwner(PROJECT_ID, USER_ID)).thenReturn(true);
+
+        assertSame(job, deletionJobService.getJob(JOB_ID, USER_ID));
+    }
+
+    @Test
+    void deletedUserSeesOwnDeletion() {
+        DeletionJobEntity job = job(DeletionTarget.USER, USER_ID, UUID.randomUUID());
+
+        assertSame(job, deletionJobService.getJob(JOB_ID, USER_ID));
+    }
+
+    @Test
+    void otherUsersDoNotSeeJob() {
+        job(DeletionTarget.PROJECT, PROJECT_ID, UUID.randomUUID());
+
+        assertThrows(EntityNotFoundException.class, () -> deletionJobService.getJob(JOB_ID, USER_ID));
+    }
+
+    private DeletionJobEntity job(DeletionTarget targetType, UUID targetId, UUID requestedBy) {
+        DeletionJobEntity job = new DeletionJobEntity();
+        job.setId(JOB_ID);
+        job.setTargetType(targetType);
+        job.setTargetId(targetId);
+        job.setRequestedBy(requestedBy);
+        when(deletionJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        return job;
+    }
+}
@@ -0,0 +1,63 @@
+package com.code_galacticos.taskservice.service;
+
+import com.code_galacticos.taskservice.cache.EntityCacheEvictor;
+import com.code_galacticos.taskservice.exception.UserAlreadyExistsException;
+import com.code_galacticos.taskservice.firebase.FirebaseService;
+import com.code_galacticos.taskservice.model.entity.UserEntity;
+import com.code_galacticos.taskservice.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+    private static final UUID IMPORTED_ID = FirebaseService.userId("firebase-uid");
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EntityCacheEvictor entityCacheEvictor = mock(EntityCacheEvictor.class);
+    private final UserService userService = new UserService(userRepository, mock(DeletionJobService.class), entityCacheEvictor);
+
+    @Test
+    void signUpTakesOverImportedUser() {
+        UserEntity imported = user(IMPORTED_ID, "Imported", null);
+        when(userRepository.findById(IMPORTED_ID)).thenReturn(Optional.of(imported));
+        when(userRepository.existsByEmail("ann@example.com")).thenReturn(true);
+        when(userRepository.save(imported)).thenReturn(imported);
+
+        UserEntity user = userService.createUser(user(IMPORTED_ID, "Ann", "https://example.com/ann.png"));
+
+        assertSame(imported, user);
+        assertEquals("Imported", user.getFirstName());
+        assertEquals("https://example.com/ann.png", user.getImageUrl());
+        verify(entityCacheEvictor).evictUser(IMPORTED_ID);
+    }
+
+    @Test
+    void signUpRejectsEmailOfAnotherUser() {
+        when(userRepository.findById(any())).thenReturn(Optional.empty());
+        when(userRepository.existsByEmail("ann@example.com")).thenReturn(true);
+
+        assertThrows(UserAlreadyExistsException.class,
+                () -> userService.createUser(user(UUID.randomUUID(), "Ann", null)));
+        verify(userRepository, never()).save(any());
+    }
+
+    private static UserEntity user(UUID id, String firstName, String imageUrl) {
+        return UserEntity.builder()
+                .id(id)
+                .email("ann@example.com")
+                .firstName(firstName)
+                .lastName("")
+                .imageUrl(imageUrl)
+                .build();
+    }
+}